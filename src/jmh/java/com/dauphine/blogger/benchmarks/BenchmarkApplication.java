@@ -0,0 +1,131 @@
+package com.dauphine.blogger.benchmarks;
+
+import com.dauphine.blogger.BloggerBoxBackendApplication;
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.services.CategoryService;
+import com.dauphine.blogger.services.PostImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * The application running without its web layer against a throw-away PostgreSQL container,
+ * seeded with a reproducible dataset.
+ */
+final class BenchmarkApplication implements AutoCloseable {
+
+    static final String[] WORDS = {
+            "spring", "boot", "java", "postgres", "index", "cache", "thread", "query", "latency", "stream",
+            "json", "server", "client", "blog", "category", "release", "feature", "review", "design", "test"
+    };
+
+    private final PostgreSQLContainer<?> postgres;
+    private final ConfigurableApplicationContext context;
+    private final List<UUID> categoryIds = new ArrayList<>();
+
+    private BenchmarkApplication(int posts, int categories, WebApplicationType web, String... arguments) {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        // Command line arguments win over the H2 settings of the test application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                "--spring.r2dbc.url=r2dbc:postgresql://" + postgres.getHost() + ":"
+                        + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName(),
+                "--spring.r2dbc.username=" + postgres.getUsername(),
+                "--spring.r2dbc.password=" + postgres.getPassword(),
+                "--spring.flyway.enabled=true",
+                "--spring.flyway.url=" + postgres.getJdbcUrl(),
+                "--spring.flyway.user=" + postgres.getUsername(),
+                "--spring.flyway.password=" + postgres.getPassword(),
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--logging.level.root=warn"));
+        args.addAll(List.of(arguments));
+        context = new SpringApplicationBuilder(BloggerBoxBackendApplication.class)
+                .web(web)
+                .run(args.toArray(String[]::new));
+        seed(posts, categories);
+    }
+
+    static BenchmarkApplication start(int posts, int categories, String... arguments) {
+        return new BenchmarkApplication(posts, categories, WebApplicationType.NONE, arguments);
+    }
+
+    /**
+     * Starts the HTTP server on a random port, see {@link #getBaseUrl()}.
+     */
+    static BenchmarkApplication startServer(int posts, int categories, String... arguments) {
+        List<String> args = new ArrayList<>(List.of(arguments));
+        args.add("--server.port=0");
+        return new BenchmarkApplication(posts, categories, WebApplicationType.SERVLET, args.toArray(String[]::new));
+    }
+
+    String getBaseUrl() {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    List<UUID> getCategoryIds() {
+        return categoryIds;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        postgres.stop();
+    }
+
+    private void seed(int posts, int categories) {
+        CategoryService categoryService = getBean(CategoryService.class);
+        for (int i = 0; i < categories; i++) {
+            Category category = categoryService.create("category-" + i);
+            categoryIds.add(category.getId());
+        }
+
+        ObjectMapper objectMapper = getBean(ObjectMapper.class);
+        Random random = new Random(42);
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < posts; i++) {
+            ObjectNode post = objectMapper.createObjectNode()
+                    .put("title", sentence(random, 6))
+                    .put("content", sentence(random, 300))
+                    .put("categoryId", categoryIds.get(i % categories).toString());
+            ndjson.append(post).append('\n');
+        }
+        try {
+            getBean(PostImportService.class).importPosts(
+                    new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)), result -> {
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+}
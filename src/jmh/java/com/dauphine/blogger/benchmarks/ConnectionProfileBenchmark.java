@@ -0,0 +1,111 @@
+package com.dauphine.blogger.benchmarks;
+
+import com.dauphine.blogger.dto.PostBatch;
+import com.dauphine.blogger.dto.PostPage;
+import com.dauphine.blogger.dto.PostSummary;
+import com.dauphine.blogger.dto.PostVersion;
+import com.dauphine.blogger.models.Post;
+import com.dauphine.blogger.services.PostService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-query latency under each connection profile, against the same direct connection: "pooled"
+ * only changes the driver and Hibernate settings, which is what the statements pay for. Entity and
+ * query caches are off so every call reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionProfileBenchmark {
+
+    private static final int MAX_BATCH = 20;
+
+    @Param({"direct", "pooled"})
+    public String profile;
+
+    @Param("10000")
+    public int posts;
+
+    @Param("10")
+    public int categories;
+
+    private BenchmarkApplication application;
+    private PostService service;
+    private List<UUID> postIds;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = BenchmarkApplication.start(posts, categories,
+                "--blogger.datasource.connection-profile=" + profile,
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        service = application.getBean(PostService.class);
+        postIds = new ArrayList<>();
+        service.getPage(null, 100).getItems().forEach(post -> postIds.add(post.getId()));
+        random = new Random(42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public PostVersion getVersion() {
+        return service.getVersion(randomId());
+    }
+
+    @Benchmark
+    public Post getById() {
+        return service.getById(randomId());
+    }
+
+    @Benchmark
+    public PostPage<Post> getFirstPage() {
+        return service.getPage(null, 20);
+    }
+
+    @Benchmark
+    public PostPage<PostSummary> getSummaryPage() {
+        return service.getSummaryPage(null, 20);
+    }
+
+    /**
+     * Lists of 1 to 20 ids: 20 distinct SQL strings without padding, 6 with it.
+     */
+    @Benchmark
+    public PostBatch getByIds() {
+        int size = 1 + random.nextInt(MAX_BATCH);
+        List<UUID> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(randomId());
+        }
+        return service.getByIds(ids);
+    }
+
+    private UUID randomId() {
+        return postIds.get(random.nextInt(postIds.size()));
+    }
+}
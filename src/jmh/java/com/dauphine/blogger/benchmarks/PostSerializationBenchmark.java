@@ -0,0 +1,62 @@
+package com.dauphine.blogger.benchmarks;
+
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.Post;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of post lists as the controllers return them, including the
+ * {@code @JsonFormat} LocalDateTime path. No database involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostSerializationBenchmark {
+
+    @Param({"20", "1000"})
+    public int posts;
+
+    private ObjectMapper objectMapper;
+    private List<Post> list;
+
+    @Setup
+    public void setUp() {
+        // Same modules as the ObjectMapper Spring Boot configures
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Random random = new Random(42);
+        Category category = new Category(UUID.randomUUID(), "category");
+        list = new ArrayList<>(posts);
+        for (int i = 0; i < posts; i++) {
+            list.add(new Post(UUID.randomUUID(), BenchmarkApplication.sentence(random, 6),
+                    BenchmarkApplication.sentence(random, 300), LocalDateTime.now().minusMinutes(i), category));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePosts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(list);
+    }
+}
@@ -0,0 +1,77 @@
+package com.dauphine.blogger.benchmarks;
+
+import com.dauphine.blogger.dto.PostPage;
+import com.dauphine.blogger.models.Post;
+import com.dauphine.blogger.services.PostService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service-level read and write paths against a seeded PostgreSQL.
+ * Dataset size: {@code -p posts=50000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    public int posts;
+
+    @Param("10")
+    public int categories;
+
+    private BenchmarkApplication application;
+    private PostService service;
+    private UUID categoryId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = BenchmarkApplication.start(posts, categories);
+        service = application.getBean(PostService.class);
+        categoryId = application.getCategoryIds().get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public List<Post> getAll() {
+        return service.getAll();
+    }
+
+    @Benchmark
+    public PostPage<Post> getFirstPage() {
+        return service.getPage(null, 20);
+    }
+
+    @Benchmark
+    public PostPage<Post> getAllByTitleOrContentContains() {
+        return service.getAllByTitleOrContentContains("postgres cach", null, 20);
+    }
+
+    @Benchmark
+    public Post create() {
+        return service.create("Benchmark title", "Benchmark content", categoryId);
+    }
+}
@@ -0,0 +1,83 @@
+package com.dauphine.blogger.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the HTTP read path with platform threads versus virtual threads plus the
+ * connection bulkhead. SampleTime mode reports throughput along with latency percentiles
+ * (p99 included) for each mode. Client concurrency: {@code -t 1000}.
+ * <p>
+ * Requests go to the per-category feed, rotating over the categories: the first page of the main
+ * feed is served from the response cache and would measure neither the database nor the bulkhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(400)
+@Fork(1)
+public class RequestConcurrencyBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param("10000")
+    public int posts;
+
+    private BenchmarkApplication application;
+    private HttpClient client;
+    private List<HttpRequest> feeds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = BenchmarkApplication.startServer(posts, 10,
+                "--spring.threads.virtual.enabled=" + virtualThreads);
+        client = HttpClient.newHttpClient();
+        feeds = application.getCategoryIds().stream()
+                .map(categoryId -> HttpRequest.newBuilder(URI.create(application.getBaseUrl()
+                                + "/v1/posts/category/" + categoryId + "?view=summary&limit=20"))
+                        .GET()
+                        .build())
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public int getCategoryFeed(Rotation rotation) throws IOException, InterruptedException {
+        HttpRequest feed = feeds.get(rotation.next);
+        rotation.next = (rotation.next + 1) % feeds.size();
+        HttpResponse<Void> response = client.send(feed, HttpResponse.BodyHandlers.discarding());
+        return response.statusCode();
+    }
+
+    @State(Scope.Thread)
+    public static class Rotation {
+        int next;
+    }
+}
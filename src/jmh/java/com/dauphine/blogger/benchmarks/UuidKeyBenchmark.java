@@ -0,0 +1,109 @@
+package com.dauphine.blogger.benchmarks;
+
+import com.dauphine.blogger.models.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Batched inserts into a UUID primary key with random v4 ids versus time-ordered v7 ids, on a table
+ * pre-filled so that the index no longer fits in a few pages. Throughput is reported by JMH; the size
+ * and leaf density of the index and the WAL written per row are printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidKeyBenchmark {
+
+    private static final String INSERT = "INSERT INTO uuid_key (id, created_date) VALUES (?, ?)";
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    @Param("1000000")
+    public int initialRows;
+
+    @Param("1000")
+    public int batchSize;
+
+    private BenchmarkApplication application;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private Supplier<UUID> ids;
+    private String walStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = BenchmarkApplication.start(0, 1);
+        jdbcTemplate = application.getBean(JdbcTemplate.class);
+        transactionTemplate = application.getBean(TransactionTemplate.class);
+        ids = "v7".equals(version) ? UuidV7Generator::next : UUID::randomUUID;
+
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+        // Same key as the post table
+        jdbcTemplate.execute("CREATE TABLE uuid_key (id UUID PRIMARY KEY, created_date TIMESTAMP NOT NULL)");
+        for (int inserted = 0; inserted < initialRows; inserted += batchSize) {
+            insertBatch();
+        }
+        jdbcTemplate.execute("CHECKPOINT");
+        walStart = jdbcTemplate.queryForObject("SELECT CAST(pg_current_wal_lsn() AS text)", String.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Map<String, Object> index = jdbcTemplate.queryForMap("""
+                SELECT pg_relation_size('uuid_key_pkey') AS index_bytes,
+                       stats.avg_leaf_density,
+                       stats.leaf_fragmentation,
+                       pg_wal_lsn_diff(pg_current_wal_lsn(), CAST(? AS pg_lsn)) AS wal_bytes,
+                       (SELECT count(*) FROM uuid_key) AS row_count
+                FROM pgstatindex('uuid_key_pkey') stats
+                """, walStart);
+        long rows = ((Number) index.get("row_count")).longValue();
+        long indexBytes = ((Number) index.get("index_bytes")).longValue();
+        // Full-page images after the checkpoint are part of what random keys cost
+        double walPerRow = ((Number) index.get("wal_bytes")).doubleValue() / Math.max(1, rows - initialRows);
+        System.out.printf("%n%s: %d rows, index %.1f MB (%.1f bytes/row), leaf density %s%%, "
+                        + "leaf fragmentation %s%%, WAL %.0f bytes per measured row%n",
+                version, rows, indexBytes / 1_048_576.0, (double) indexBytes / rows,
+                index.get("avg_leaf_density"), index.get("leaf_fragmentation"), walPerRow);
+        application.close();
+    }
+
+    @Benchmark
+    public int[][] insertBatch() {
+        List<UUID> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(ids.get());
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT, batch, batchSize,
+                (statement, id) -> {
+                    statement.setObject(1, id);
+                    statement.setTimestamp(2, now);
+                }));
+    }
+}
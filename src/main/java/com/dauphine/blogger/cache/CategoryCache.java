@@ -0,0 +1,122 @@
+package com.dauphine.blogger.cache;
+
+import com.dauphine.blogger.dto.CacheStatistics;
+import com.dauphine.blogger.models.Category;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache for categories: lookups by id, name existence checks and a
+ * snapshot of the full list. Entries expire after a fixed TTL and writes must go through
+ * {@link #put}, {@link #rename} and {@link #remove} to keep every view consistent; called within a
+ * transaction, they only apply once it commits.
+ */
+@Component
+public class CategoryCache implements MeterBinder {
+
+    private static final String ALL_KEY = "all";
+
+    private final Cache<UUID, Category> byId;
+    private final Cache<String, Boolean> nameExists;
+    private final Cache<String, List<Category>> all;
+
+    public CategoryCache(@Value("${blogger.cache.category.maximum-size:1000}") long maximumSize,
+                         @Value("${blogger.cache.category.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.nameExists = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.all = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached category, or loads it; a {@code null} result from the loader is not cached.
+     */
+    public Category getById(UUID id, Function<UUID, Category> loader) {
+        return byId.get(id, loader);
+    }
+
+    /**
+     * Names are compared case-insensitively, like the unique index on categories.
+     */
+    public boolean existsByName(String name, Function<String, Boolean> loader) {
+        return nameExists.get(normalize(name), key -> loader.apply(name));
+    }
+
+    public List<Category> getAll(Supplier<List<Category>> loader) {
+        return all.get(ALL_KEY, key -> List.copyOf(loader.get()));
+    }
+
+    public void put(Category category) {
+        AfterCommit.run(() -> store(category));
+    }
+
+    public void rename(String previousName, Category category) {
+        AfterCommit.run(() -> {
+            nameExists.invalidate(normalize(previousName));
+            store(category);
+        });
+    }
+
+    public void remove(UUID id) {
+        AfterCommit.run(() -> {
+            Category cached = byId.getIfPresent(id);
+            byId.invalidate(id);
+            if (cached != null) {
+                nameExists.invalidate(normalize(cached.getName()));
+            } else {
+                // Name unknown without a lookup, the name entries are cheap to reload
+                nameExists.invalidateAll();
+            }
+            all.invalidateAll();
+        });
+    }
+
+    private void store(Category category) {
+        byId.put(category.getId(), category);
+        nameExists.put(normalize(category.getName()), true);
+        all.invalidateAll();
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byId, "category.by-id");
+        CaffeineCacheMetrics.monitor(registry, nameExists, "category.name-exists");
+        CaffeineCacheMetrics.monitor(registry, all, "category.all");
+    }
+
+    public CacheStatistics getStatistics() {
+        CacheStats stats = byId.stats()
+                .plus(nameExists.stats())
+                .plus(all.stats());
+        long size = byId.estimatedSize() + nameExists.estimatedSize() + all.estimatedSize();
+        return new CacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.hitRate(), size);
+    }
+}
@@ -0,0 +1,120 @@
+package com.dauphine.blogger.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized payloads of the hot read endpoints: single posts, the category list and the first
+ * feed pages, bounded by their size in bytes.
+ * <p>
+ * Posts and the category list are keyed by their ETag, so a stale payload is never served, even
+ * when another instance wrote the change; evicting them only frees memory. Feed pages have no
+ * cheap version and must be evicted on every write that can show in them, which the {@code evict}
+ * methods defer until the surrounding transaction commits. Category writes also evict the posts,
+ * whose payloads embed their category.
+ */
+@Component
+public class ResponseCache implements MeterBinder {
+
+    // Below Tomcat's own compression threshold, gzip costs more than it saves
+    private static final int MIN_GZIP_SIZE = 2048;
+
+    private final Cache<Key, SerializedResponse> payloads;
+    private final ObjectMapper objectMapper;
+
+    public ResponseCache(ObjectMapper objectMapper,
+                         @Value("${blogger.cache.response.maximum-weight:64MB}") DataSize maximumWeight,
+                         @Value("${blogger.cache.response.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.objectMapper = objectMapper;
+        this.payloads = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((Key key, SerializedResponse payload) -> payload.weight())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public SerializedResponse getPost(UUID id, String eTag, Supplier<?> loader) {
+        return get(new Key(Kind.POST, id, eTag), loader);
+    }
+
+    public SerializedResponse getCategories(String eTag, Supplier<?> loader) {
+        return get(new Key(Kind.CATEGORIES, null, eTag), loader);
+    }
+
+    public SerializedResponse getFeedPage(String view, int limit, Supplier<?> loader) {
+        return get(new Key(Kind.FEED, null, view + "|" + limit), loader);
+    }
+
+    /**
+     * A post was created, updated or deleted: drops its payloads and the feed pages.
+     */
+    public void evictPost(UUID id) {
+        AfterCommit.run(() -> payloads.asMap().keySet()
+                .removeIf(key -> key.kind() == Kind.FEED || key.kind() == Kind.POST && id.equals(key.id())));
+    }
+
+    /**
+     * Posts were written without going through Hibernate, e.g. by the bulk import.
+     */
+    public void evictFeed() {
+        AfterCommit.run(() -> payloads.asMap().keySet().removeIf(key -> key.kind() == Kind.FEED));
+    }
+
+    /**
+     * A category was created, renamed or deleted: it also shows in the feed pages and is embedded in
+     * the payload of each of its posts, which this cache cannot tell apart by category, so every
+     * entry goes.
+     */
+    public void evictCategories() {
+        AfterCommit.run(payloads::invalidateAll);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, payloads, "response");
+    }
+
+    private SerializedResponse get(Key key, Supplier<?> loader) {
+        return payloads.get(key, ignored -> serialize(loader.get()));
+    }
+
+    private SerializedResponse serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            if (json.length < MIN_GZIP_SIZE) {
+                return new SerializedResponse(json, null);
+            }
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            byte[] gzip = compressed.toByteArray();
+            return new SerializedResponse(json, gzip.length < json.length ? gzip : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private enum Kind {
+        POST, CATEGORIES, FEED
+    }
+
+    private record Key(Kind kind, UUID id, String variant) {
+    }
+}
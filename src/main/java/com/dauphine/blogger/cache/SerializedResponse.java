@@ -0,0 +1,69 @@
+package com.dauphine.blogger.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Locale;
+
+/**
+ * A JSON body serialized once, kept both as is and gzip-compressed when that pays off, so that
+ * cache hits are written to the socket as bytes without going through Jackson or a compressor.
+ */
+public final class SerializedResponse {
+
+    private static final String GZIP = "gzip";
+
+    private final byte[] json;
+    private final byte[] gzip;
+
+    SerializedResponse(byte[] json, byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    /**
+     * Completes the response with the representation the client accepts.
+     */
+    public ResponseEntity<byte[]> toResponse(ResponseEntity.BodyBuilder builder, String acceptEncoding) {
+        builder.contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(gzip);
+        }
+        return builder.body(json);
+    }
+
+    int weight() {
+        return json.length + (gzip == null ? 0 : gzip.length);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if ((name.equals(GZIP) || name.equals("*")) && !isRefused(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "gzip;q=0" explicitly refuses the coding
+    private static boolean isRefused(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
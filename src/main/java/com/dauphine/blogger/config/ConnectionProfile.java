@@ -0,0 +1,72 @@
+package com.dauphine.blogger.config;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * How statements can be cached, depending on what sits between the application and PostgreSQL.
+ * <ul>
+ *     <li>{@link #DIRECT}: every JDBC connection is one server session, so the driver turns statements
+ *     executed {@value #PREPARE_THRESHOLD} times into named server-side prepared statements, parsed and
+ *     planned once per connection.</li>
+ *     <li>{@link #POOLED}: behind a transaction-mode pooler consecutive transactions may run on different
+ *     server sessions, where a named statement does not exist. Only unnamed statements are sent; the
+ *     driver still caches the parsed SQL and Hibernate its query plans on the client.</li>
+ * </ul>
+ * Both pad {@code IN} lists to the next power of two, so that a handful of SQL strings, hence of
+ * cached plans and prepared statements, serve every list length.
+ */
+public enum ConnectionProfile {
+    DIRECT,
+    POOLED;
+
+    static final String PROPERTY = "blogger.datasource.connection-profile";
+
+    private static final int PREPARE_THRESHOLD = 5;
+    private static final int STATEMENT_CACHE_QUERIES = 256;
+    // Supabase convention: 6543 is the transaction-mode port of the pooler, 5432 the session-mode one
+    private static final int TRANSACTION_POOLER_PORT = 6543;
+
+    /**
+     * Pooled when the URL targets the transaction-mode port or says {@code pgbouncer=true}.
+     */
+    public static ConnectionProfile detect(String jdbcUrl) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:postgresql:")) {
+            return DIRECT;
+        }
+        URI uri;
+        try {
+            uri = URI.create(jdbcUrl.substring("jdbc:".length()));
+        } catch (IllegalArgumentException e) {
+            // e.g. a multi-host URL: set the profile explicitly
+            return DIRECT;
+        }
+        String query = uri.getQuery() == null ? "" : uri.getQuery().toLowerCase(Locale.ROOT);
+        return uri.getPort() == TRANSACTION_POOLER_PORT || query.contains("pgbouncer=true") ? POOLED : DIRECT;
+    }
+
+    /**
+     * Hibernate settings, valid whatever the database.
+     */
+    Map<String, Object> hibernateProperties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.jpa.properties.hibernate.query.plan_cache_enabled", true);
+        properties.put("spring.jpa.properties.hibernate.query.plan_cache_max_size", 2048);
+        properties.put("spring.jpa.properties.hibernate.query.in_clause_parameter_padding", true);
+        return properties;
+    }
+
+    /**
+     * PostgreSQL driver settings, for the JDBC pools and the R2DBC connection factory.
+     */
+    Map<String, Object> driverProperties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        String jdbc = "spring.datasource.hikari.data-source-properties.";
+        properties.put(jdbc + "prepareThreshold", this == DIRECT ? PREPARE_THRESHOLD : 0);
+        properties.put(jdbc + "preparedStatementCacheQueries", STATEMENT_CACHE_QUERIES);
+        properties.put("spring.r2dbc.properties.preparedStatementCacheQueries", this == DIRECT ? STATEMENT_CACHE_QUERIES : 0);
+        return properties;
+    }
+}
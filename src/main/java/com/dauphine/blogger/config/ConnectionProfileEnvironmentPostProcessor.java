@@ -0,0 +1,46 @@
+package com.dauphine.blogger.config;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Applies the {@link ConnectionProfile} set by {@code blogger.datasource.connection-profile}, or
+ * detected from {@code spring.datasource.url} when it is {@code auto}. Its settings are added last,
+ * so any of them set explicitly, e.g. in application.properties, still wins.
+ */
+public class ConnectionProfileEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String AUTO = "auto";
+    private static final String PROPERTY_SOURCE = "bloggerConnectionProfile";
+
+    private final Log logger;
+
+    public ConnectionProfileEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.logger = logFactory.getLog(ConnectionProfileEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String url = environment.getProperty("spring.datasource.url");
+        String configured = environment.getProperty(ConnectionProfile.PROPERTY, AUTO);
+        ConnectionProfile profile = AUTO.equalsIgnoreCase(configured)
+                ? ConnectionProfile.detect(url)
+                : ConnectionProfile.valueOf(configured.trim().toUpperCase(Locale.ROOT));
+
+        Map<String, Object> properties = new LinkedHashMap<>(profile.hibernateProperties());
+        // Other drivers reject PostgreSQL settings they do not know
+        if (url != null && url.startsWith("jdbc:postgresql:")) {
+            properties.putAll(profile.driverProperties());
+        }
+        environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE, properties));
+        logger.info(String.format("[DATASOURCE] Connection profile %s (%s)", profile, configured));
+    }
+}
@@ -0,0 +1,50 @@
+package com.dauphine.blogger.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Boot's JDBC auto-configuration backs off as soon as an R2DBC {@code ConnectionFactory} exists, which
+ * would leave JPA without a {@code DataSource}. The pool is declared here from the same
+ * {@code spring.datasource.*} and {@code spring.datasource.hikari.*} properties instead.
+ * <p>
+ * With read replicas configured, the pools are owned by {@link ReplicaRouting} and the data source is
+ * a lazy proxy that only opens the physical connection at the first statement: from the replicas when
+ * the transaction was marked read-only, from the primary otherwise.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 ObjectProvider<ReplicaRouting> replicaRouting) {
+        ReplicaRouting routing = replicaRouting.getIfAvailable();
+        if (routing == null) {
+            return pool(properties, Binder.get(environment), properties.determineUrl());
+        }
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing.getPrimary());
+        dataSource.setReadOnlyDataSource(routing.getReadOnlyDataSource());
+        return dataSource;
+    }
+
+    static HikariDataSource pool(DataSourceProperties properties, Binder binder, String url) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        return pool;
+    }
+}
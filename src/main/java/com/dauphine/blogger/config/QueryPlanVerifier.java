@@ -0,0 +1,173 @@
+package com.dauphine.blogger.config;
+
+import com.dauphine.blogger.dto.PostSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL of each repository query at startup and fails it when one of them
+ * plans a sequential scan on a table holding more than {@code blogger.schema.seq-scan-threshold} rows,
+ * typically because a migration adding its index is missing. Small tables are ignored, PostgreSQL
+ * rightly prefers scanning them. The statements mirror the repositories and must follow them.
+ */
+@Component
+@ConditionalOnProperty(name = "blogger.schema.verify-query-plans", havingValue = "true")
+public class QueryPlanVerifier implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryPlanVerifier.class);
+
+    private static final String SELECT_POST = """
+            SELECT post.*, category.*
+            FROM post post
+            LEFT JOIN category category ON category.id = post.category_id
+    """;
+
+    private static final String SEARCH_DOCUMENT = """
+            (setweight(to_tsvector('simple', coalesce(post.title, '')), 'A')
+             || setweight(to_tsvector('simple', coalesce(post.content, '')), 'B'))
+    """;
+
+    private static final String TABLE_SIZES = """
+            SELECT relname, reltuples
+            FROM pg_class
+            WHERE relkind = 'r'
+            AND relnamespace = current_schema()::regnamespace
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final long seqScanThreshold;
+
+    public QueryPlanVerifier(JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${blogger.schema.seq-scan-threshold:10000}") long seqScanThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.seqScanThreshold = seqScanThreshold;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Map<String, Long> tableSizes = new HashMap<>();
+        jdbcTemplate.query(TABLE_SIZES, row -> {
+            // -1 until the table is first analyzed
+            tableSizes.put(row.getString("relname"), Math.max(row.getLong("reltuples"), 0));
+        });
+
+        List<String> violations = new ArrayList<>();
+        for (PlannedQuery query : queries()) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + query.sql(), String.class, query.parameters());
+            for (String table : sequentialScans(plan)) {
+                long rows = tableSizes.getOrDefault(table, 0L);
+                if (rows > seqScanThreshold) {
+                    violations.add(String.format("%s scans %s sequentially (~%d rows)", query.name(), table, rows));
+                }
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Queries without a usable index: " + String.join("; ", violations));
+        }
+        logger.info("[SCHEMA] Query plans verified for {} queries", queries().size());
+    }
+
+    private List<PlannedQuery> queries() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdDate = LocalDateTime.now();
+        int window = 21;
+        return List.of(
+                new PlannedQuery("PostRepository.findById", SELECT_POST + "WHERE post.id = ?", id),
+                new PlannedQuery("PostRepository.findNewest",
+                        SELECT_POST + "ORDER BY post.created_date DESC, post.id DESC LIMIT ?", window),
+                new PlannedQuery("PostRepository.findNewestBefore", SELECT_POST + """
+                        WHERE (post.created_date, post.id) < (?, ?)
+                        ORDER BY post.created_date DESC, post.id DESC LIMIT ?
+                        """, createdDate, id, window),
+                new PlannedQuery("PostRepository.findNewestByCategoryId", SELECT_POST + """
+                        WHERE post.category_id = ?
+                        ORDER BY post.created_date DESC, post.id DESC LIMIT ?
+                        """, id, window),
+                new PlannedQuery("PostRepository.findNewestByCategoryIdBefore", SELECT_POST + """
+                        WHERE post.category_id = ?
+                        AND (post.created_date, post.id) < (?, ?)
+                        ORDER BY post.created_date DESC, post.id DESC LIMIT ?
+                        """, id, createdDate, id, window),
+                new PlannedQuery("PostRepository.findAllByCategoryId",
+                        SELECT_POST + "WHERE post.category_id = ?", id),
+                new PlannedQuery("PostRepository.findNewestSummaries", """
+                        SELECT post.id, post.title, post.created_date, category.name, substring(post.content, 1, ?)
+                        FROM post post
+                        LEFT JOIN category category ON category.id = post.category_id
+                        ORDER BY post.created_date DESC, post.id DESC LIMIT ?
+                        """, PostSummary.EXCERPT_LENGTH, window),
+                new PlannedQuery("PostRepository.searchByTitleOrContent", """
+                        SELECT post.*
+                        FROM post post, to_tsquery('simple', ?) search_query
+                        WHERE %s @@ search_query
+                        ORDER BY ts_rank(%s, search_query) DESC, post.created_date DESC, post.id DESC
+                        LIMIT ? OFFSET ?
+                        """.formatted(SEARCH_DOCUMENT, SEARCH_DOCUMENT), "blog:*", window, 0),
+                // EXPLAIN alone plans the update without running it
+                new PlannedQuery("PostRepository.detachFromCategory",
+                        "UPDATE post SET category_id = NULL WHERE category_id = ?", id),
+                new PlannedQuery("CategoryRepository.existsByName",
+                        "SELECT count(category.id) > 0 FROM category category WHERE lower(category.name) = lower(?)",
+                        "java"),
+                new PlannedQuery("CategoryRepository.findAllLikeName",
+                        "SELECT category.* FROM category category WHERE upper(category.name) LIKE upper('%' || ? || '%')",
+                        "java"),
+                new PlannedQuery("CategoryStatsRepository.removePost",
+                        "SELECT max(post.created_date) FROM post post WHERE post.category_id = ?", id),
+                new PlannedQuery("PostArchiveRepository.findDays", """
+                        SELECT post_archive.* FROM post_archive post_archive
+                        WHERE post_archive.category_id = ?
+                        AND post_archive.created_on >= ? AND post_archive.created_on < ?
+                        AND post_archive.post_count > 0
+                        ORDER BY post_archive.created_on
+                        """, id, createdDate.toLocalDate().minusYears(1), createdDate.toLocalDate()),
+                new PlannedQuery("PostViewRepository.findAllByOrderByViewsDesc",
+                        "SELECT post_view.* FROM post_view post_view ORDER BY post_view.views DESC LIMIT ?", 100)
+        );
+    }
+
+    private List<String> sequentialScans(String plan) {
+        List<String> tables = new ArrayList<>();
+        try {
+            for (JsonNode root : objectMapper.readTree(plan)) {
+                collectSequentialScans(root.path("Plan"), tables);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tables;
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> tables) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            tables.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, tables);
+        }
+    }
+
+    private record PlannedQuery(String name, String sql, Object... parameters) {
+    }
+}
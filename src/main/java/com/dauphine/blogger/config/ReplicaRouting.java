@@ -0,0 +1,240 @@
+package com.dauphine.blogger.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The primary pool and the replica pools. Read-only transactions get a connection to the healthy
+ * replica with the fewest connections in use, replicas with as many taken in turn, and fall back to
+ * the primary when none is healthy or the current request is pinned to it.
+ * <p>
+ * A replica that fails to hand out a connection is skipped until the next health check finds it
+ * valid again. The checks run on threads of their own and are only awaited for the validation
+ * timeout, so that a replica that hangs cannot hold up the shared scheduler, and with it every other
+ * scheduled task, for the connection timeout of its pool.
+ */
+public class ReplicaRouting implements MeterBinder, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRouting.class);
+
+    // Requests that must read their own writes, see ReadYourWritesInterceptor
+    private static final ThreadLocal<Boolean> primaryPinned = ThreadLocal.withInitial(() -> false);
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final DataSource readOnlyDataSource = new ReadOnlyDataSource();
+    private final ExecutorService probes = Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("replica-health-", 0).daemon().factory());
+
+    public ReplicaRouting(HikariDataSource primary, List<HikariDataSource> replicas, Duration validationTimeout) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.validationTimeoutSeconds = (int) Math.max(validationTimeout.toSeconds(), 1);
+    }
+
+    public static void pinToPrimary() {
+        primaryPinned.set(true);
+    }
+
+    public static void unpin() {
+        primaryPinned.remove();
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * Target of read-only transactions.
+     */
+    public DataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    /**
+     * The primary first, then the replicas.
+     */
+    public List<HikariDataSource> getPools() {
+        List<HikariDataSource> pools = new ArrayList<>(replicas.size() + 1);
+        pools.add(primary);
+        replicas.forEach(replica -> pools.add(replica.pool));
+        return pools;
+    }
+
+    public long getServedConnections(int replica) {
+        return replicas.get(replica).served.get();
+    }
+
+    public boolean isHealthy(int replica) {
+        return replicas.get(replica).healthy;
+    }
+
+    @Scheduled(fixedDelayString = "${blogger.datasource.replica-health-interval:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            // A probe still stuck from an earlier check is awaited again rather than piled up
+            if (replica.probe == null || replica.probe.isDone()) {
+                replica.probe = probes.submit(() -> probe(replica));
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(validationTimeoutSeconds);
+        for (Replica replica : replicas) {
+            boolean valid;
+            try {
+                valid = replica.probe.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                valid = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (valid != replica.healthy) {
+                logger.warn("[REPLICA] {} is {}", replica.name(), valid ? "back up" : "down");
+            }
+            replica.healthy = valid;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("blogger.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("Whether the replica receives read-only transactions")
+                    .tag("replica", replica.name())
+                    .register(registry);
+            Gauge.builder("blogger.datasource.replica.in_use", replica, r -> r.inUse.get())
+                    .description("Connections of the replica currently in use")
+                    .tag("replica", replica.name())
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void close() {
+        probes.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+        primary.close();
+    }
+
+    private boolean probe(Replica replica) {
+        try (Connection connection = replica.pool.getConnection()) {
+            return connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Connection readOnlyConnection() throws SQLException {
+        if (primaryPinned.get()) {
+            return primary.getConnection();
+        }
+        for (Replica replica : candidates()) {
+            try {
+                return replica.connect();
+            } catch (SQLException e) {
+                logger.warn("[REPLICA] {} is down: {}", replica.name(), e.getMessage());
+                replica.healthy = false;
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * Healthy replicas, least loaded first; the rotating start breaks ties in turn.
+     */
+    private List<Replica> candidates() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        List<Replica> candidates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                candidates.add(replica);
+            }
+        }
+        // Stable sort: replicas with the same load keep their rotated order
+        candidates.sort(Comparator.comparingInt(replica -> replica.inUse.get()));
+        return candidates;
+    }
+
+    private static final class Replica {
+        private final HikariDataSource pool;
+        private final AtomicInteger inUse = new AtomicInteger();
+        private final AtomicLong served = new AtomicLong();
+        private volatile boolean healthy = true;
+        private volatile Future<Boolean> probe;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        private String name() {
+            return pool.getPoolName();
+        }
+
+        /**
+         * Counts the connection as in use until it is closed.
+         */
+        private Connection connect() throws SQLException {
+            Connection target = pool.getConnection();
+            inUse.incrementAndGet();
+            served.incrementAndGet();
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        boolean closing = "close".equals(method.getName()) && method.getParameterCount() == 0;
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            if (closing && released.compareAndSet(false, true)) {
+                                inUse.decrementAndGet();
+                            }
+                        }
+                    });
+        }
+    }
+
+    private final class ReadOnlyDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readOnlyConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new UnsupportedOperationException("Replicas use the credentials of their pool");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.dauphine.blogger.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Active when {@code blogger.datasource.replica-urls} lists read replicas of the primary database.
+ * They share its credentials and {@code spring.datasource.hikari.*} settings.
+ * <p>
+ * The transaction manager marks the connection of a {@code @Transactional(readOnly = true)} method,
+ * and of the repositories outside of one, as read-only before any statement runs; see
+ * {@link DataSourceConfig} for the routing data source.
+ */
+@Configuration
+@ConditionalOnProperty(name = "blogger.datasource.replica-urls")
+public class ReplicaRoutingConfig implements WebMvcConfigurer {
+
+    private final Duration readYourWritesWindow;
+
+    public ReplicaRoutingConfig(@Value("${blogger.datasource.read-your-writes-window:5s}") Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRouting replicaRouting(DataSourceProperties properties,
+                                        Environment environment,
+                                        @Value("${blogger.datasource.replica-urls}") List<String> replicaUrls,
+                                        @Value("${blogger.datasource.replica-validation-timeout:1s}") Duration validationTimeout) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = pool(properties, binder, properties.determineUrl(), "primary");
+        List<HikariDataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = pool(properties, binder, replicaUrls.get(i).trim(), "replica-" + i);
+            replica.setReadOnly(true);
+            // A replica that is down at startup is only skipped, it must not prevent the start
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaRouting(primary, replicas, validationTimeout);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesWindow))
+                .addPathPatterns("/v1/**");
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Binder binder, String url, String name) {
+        HikariDataSource pool = DataSourceConfig.pool(properties, binder, url);
+        pool.setPoolName(name);
+        return pool;
+    }
+}
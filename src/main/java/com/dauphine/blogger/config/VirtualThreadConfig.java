@@ -0,0 +1,64 @@
+package com.dauphine.blogger.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active with {@code spring.threads.virtual.enabled=true}, where Tomcat runs each request,
+ * and therefore every controller and service call, on its own virtual thread.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Hikari's own default, which it only applies once the pool starts
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor dataSourceBulkhead(
+            @Value("${blogger.datasource.bulkhead.permits:0}") int permits,
+            @Value("${blogger.datasource.bulkhead.max-wait:5s}") Duration maxWait,
+            ObjectProvider<MeterRegistry> registry,
+            ObjectProvider<ReplicaRouting> replicaRouting) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BoundedDataSource) {
+                    return bean;
+                }
+                // Default to one permit per pooled connection. Behind the routing proxy of
+                // DataSourceConfig, a connection comes from the primary or from one of the replicas
+                ReplicaRouting routing = replicaRouting.getIfAvailable();
+                int limit = permits > 0 ? permits
+                        : bean instanceof HikariDataSource hikari ? poolSize(hikari)
+                        : routing != null ? routing.getPools().stream().mapToInt(VirtualThreadConfig::poolSize).sum()
+                        : DEFAULT_POOL_SIZE;
+                BoundedDataSource bounded = new BoundedDataSource(dataSource, limit, maxWait);
+                registry.ifAvailable(meters -> {
+                    Gauge.builder("blogger.datasource.bulkhead.available", bounded, BoundedDataSource::getAvailablePermits)
+                            .description("Connections that can be handed out without waiting")
+                            .register(meters);
+                    Gauge.builder("blogger.datasource.bulkhead.queued", bounded, BoundedDataSource::getQueueLength)
+                            .description("Threads waiting for a connection")
+                            .register(meters);
+                });
+                return bounded;
+            }
+        };
+    }
+
+    private static int poolSize(HikariDataSource pool) {
+        return pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+    }
+}
@@ -1,15 +1,35 @@
 package com.dauphine.blogger.config;
 
+import com.dauphine.blogger.metrics.StatementCountInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+/**
+ * Adds to Boot's MVC auto-configuration, which stays on: its message converters share the
+ * application ObjectMapper and it runs async responses on the application task executor.
+ */
 @Configuration
-@EnableWebMvc
 public class WebConfig implements WebMvcConfigurer {
+
+    private final StatementCountInterceptor statementCountInterceptor;
+
+    public WebConfig(StatementCountInterceptor statementCountInterceptor) {
+        this.statementCountInterceptor = statementCountInterceptor;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**").allowedOrigins("http://localhost:4200");
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // The reactive read API goes through R2DBC, Hibernate never sees its statements;
+        // the change feed runs no statement and outlives its request thread
+        registry.addInterceptor(statementCountInterceptor)
+                .addPathPatterns("/v1/**")
+                .excludePathPatterns("/v1/reactive/**", "/v1/changes/**");
+    }
+}
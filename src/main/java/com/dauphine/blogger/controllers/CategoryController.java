@@ -1,15 +1,21 @@
 package com.dauphine.blogger.controllers;
 
+import com.dauphine.blogger.cache.ResponseCache;
+import com.dauphine.blogger.dto.CacheStatistics;
+import com.dauphine.blogger.dto.CategorySummary;
 import com.dauphine.blogger.dto.CreationCategoryRequest;
 import com.dauphine.blogger.dto.UpdateCategoryRequest;
 import com.dauphine.blogger.exceptions.CategoryNameAlreadyExistsException;
 import com.dauphine.blogger.exceptions.CategoryNotFoundException;
+import com.dauphine.blogger.exceptions.PreconditionFailedException;
 import com.dauphine.blogger.models.Category;
 import com.dauphine.blogger.services.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -21,74 +27,113 @@ import java.util.UUID;
 public class CategoryController {
 
     private final CategoryService service;
+    private final ResponseCache responseCache;
 
-    public CategoryController(CategoryService service) {
+    public CategoryController(CategoryService service, ResponseCache responseCache) {
         this.service = service;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
     @Operation(
             summary = "Get all categories",
-            description = "Retrieve all categories or filter like name"
+            description = "Retrieve all categories or filter like name; "
+                    + "the full list honours If-None-Match and If-Modified-Since"
     )
-    public ResponseEntity<List<Category>> getAll(@RequestParam(required = false) String name) {
-        List<Category> categories = name == null || name.isBlank()
-                ? service.getAll()
-                : service.getAllLikeName(name);
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<?> getAll(
+            @RequestParam(required = false) String name,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        if (name != null && !name.isBlank()) {
+            return ResponseEntity.ok(service.getAllLikeName(name));
+        }
+
+        // The full list is a cached snapshot, so revalidation costs neither a query nor serialization
+        List<Category> categories = service.getAll();
+        String eTag = EntityTags.ofAll(categories);
+        long lastModified = EntityTags.lastModified(categories);
+        if (request.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+        return responseCache.getCategories(eTag, () -> categories)
+                .toResponse(ResponseEntity.ok().eTag(eTag).lastModified(lastModified), acceptEncoding);
+    }
+
+    @GetMapping("/summary")
+    @Operation(
+            summary = "Get category summaries",
+            description = "Returns every category with its number of posts and the creation date of its latest post"
+    )
+    public ResponseEntity<List<CategorySummary>> getSummaries() {
+        return ResponseEntity.ok(service.getSummaries());
+    }
+
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Get category cache statistics", description = "Returns hit, miss and eviction counters of the category cache")
+    public ResponseEntity<CacheStatistics> getCacheStatistics() {
+        return ResponseEntity.ok(service.getCacheStatistics());
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get category by ID", description = "Returns a single category identified by its ID")
-    public ResponseEntity<Category> retrieveCategoryById(@PathVariable("id") UUID id) throws CategoryNotFoundException {
+    @Operation(
+            summary = "Get category by ID",
+            description = "Returns a single category identified by its ID; honours If-None-Match and If-Modified-Since"
+    )
+    public ResponseEntity<Category> retrieveCategoryById(@PathVariable("id") UUID id, WebRequest request)
+            throws CategoryNotFoundException {
         Category category = service.getById(id);
         if (category == null) {
             throw new CategoryNotFoundException(id);
         }
-        return ResponseEntity.ok(category);
+        if (request.checkNotModified(EntityTags.of(category), EntityTags.lastModified(category.getUpdatedDate()))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(category))
+                .lastModified(EntityTags.lastModified(category.getUpdatedDate()))
+                .body(category);
     }
 
     @PostMapping
     @Operation(summary = "Create a new category", description = "Creates a new category with the provided name")
     public ResponseEntity<Category> createCategory(@RequestBody CreationCategoryRequest request)
             throws CategoryNameAlreadyExistsException {
-        if (service.existsByName(request.getName())) {
-            throw new CategoryNameAlreadyExistsException(request.getName());
-        }
-
+        // The service checks the name, no need to check it twice
         Category category = service.create(request.getName());
         return ResponseEntity
                 .created(URI.create("/v1/categories/" + category.getId()))
+                .eTag(EntityTags.of(category))
                 .body(category);
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Update a category", description = "Updates the name of an existing category")
+    @Operation(
+            summary = "Update a category",
+            description = "Updates the name of an existing category; with If-Match, only if it still has that ETag"
+    )
     public ResponseEntity<Category> updateCategory(
             @PathVariable UUID id,
-            @RequestBody UpdateCategoryRequest request)
-            throws CategoryNotFoundException, CategoryNameAlreadyExistsException {
-
-        // Check if category exists
-        Category existingCategory = service.getById(id);
-        if (existingCategory == null) {
-            throw new CategoryNotFoundException(id);
-        }
-
-        // Check if name already exists for a different category
-        if (!existingCategory.getName().equalsIgnoreCase(request.getName())
-                && service.existsByName(request.getName())) {
-            throw new CategoryNameAlreadyExistsException(request.getName());
-        }
-
-        Category updatedCategory = service.update(id, request.getName());
-        return ResponseEntity.ok(updatedCategory);
+            @RequestBody UpdateCategoryRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws CategoryNotFoundException, CategoryNameAlreadyExistsException, PreconditionFailedException {
+        // The service checks existence and name uniqueness in the same transaction as the update
+        Category updatedCategory = service.update(id, request.getName(), EntityTags.expectedVersion(ifMatch, id));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(updatedCategory))
+                .lastModified(EntityTags.lastModified(updatedCategory.getUpdatedDate()))
+                .body(updatedCategory);
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete a category", description = "Deletes a category by its ID")
-    public ResponseEntity<Void> deleteCategory(@PathVariable UUID id) throws CategoryNotFoundException {
-        boolean deleted = service.deleteById(id);
+    @Operation(
+            summary = "Delete a category",
+            description = "Deletes a category by its ID; with If-Match, only if it still has that ETag"
+    )
+    public ResponseEntity<Void> deleteCategory(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws CategoryNotFoundException, PreconditionFailedException {
+        boolean deleted = service.deleteById(id, EntityTags.expectedVersion(ifMatch, id));
         if (!deleted) {
             throw new CategoryNotFoundException(id);
         }
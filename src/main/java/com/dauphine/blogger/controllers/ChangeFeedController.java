@@ -0,0 +1,35 @@
+package com.dauphine.blogger.controllers;
+
+import com.dauphine.blogger.events.ChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/v1/changes")
+@Tag(name = "Change feed API", description = "Server-Sent Events of post and category changes")
+public class ChangeFeedController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final ChangeFeed changeFeed;
+
+    public ChangeFeedController(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Subscribe to changes",
+            description = "Streams post.created, post.updated, post.deleted and the category events as they commit; "
+                    + "with Last-Event-ID, resumes after that event, or sends 'reset' when it is no longer retained"
+    )
+    public SseEmitter subscribe(@RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) {
+        return changeFeed.subscribe(lastEventId);
+    }
+}
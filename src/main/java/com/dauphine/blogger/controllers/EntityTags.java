@@ -0,0 +1,130 @@
+package com.dauphine.blogger.controllers;
+
+import com.dauphine.blogger.dto.PostVersion;
+import com.dauphine.blogger.exceptions.PreconditionFailedException;
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.Post;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Strong entity tags derived from the {@code @Version} columns, so they can be computed
+ * without serializing the representation.
+ * <p>
+ * A post embeds its category, so its tag is {@code "<post version>-<category version>"}, or
+ * {@code "<post version>-none"} without one: renaming the category changes the tag of its posts
+ * too, and no post without a category shares a tag with one in a category at version 0.
+ */
+final class EntityTags {
+
+    private static final String ANY = "*";
+    private static final String NO_CATEGORY = "none";
+    private static final int LIST_TAG_LENGTH = 16;
+
+    private EntityTags() {
+    }
+
+    static String of(Category category) {
+        return quote(String.valueOf(category.getVersion()));
+    }
+
+    static String of(Post post) {
+        Category category = post.getCategory();
+        return of(post.getVersion(), category == null ? null : category.getVersion());
+    }
+
+    static String of(PostVersion version) {
+        return of(version.getVersion(), version.getCategoryVersion());
+    }
+
+    /**
+     * Tag of a whole list: any insert, delete or update of an element changes it.
+     */
+    static String ofAll(List<Category> categories) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocate(3 * Long.BYTES);
+            for (Category category : categories) {
+                buffer.clear();
+                buffer.putLong(category.getId().getMostSignificantBits())
+                        .putLong(category.getId().getLeastSignificantBits())
+                        .putLong(category.getVersion());
+                digest.update(buffer.array());
+            }
+            return quote(HexFormat.of().formatHex(digest.digest()).substring(0, LIST_TAG_LENGTH));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every Java platform", e);
+        }
+    }
+
+    /**
+     * A post is modified when it or its embedded category is.
+     */
+    static long lastModified(Post post) {
+        Category category = post.getCategory();
+        return lastModified(latest(post.getUpdatedDate(), category == null ? null : category.getUpdatedDate()));
+    }
+
+    static long lastModified(PostVersion version) {
+        return lastModified(latest(version.getUpdatedDate(), version.getCategoryUpdatedDate()));
+    }
+
+    static long lastModified(LocalDateTime updatedDate) {
+        return updatedDate == null ? -1 : updatedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static long lastModified(List<Category> categories) {
+        return categories.stream()
+                .map(Category::getUpdatedDate)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .map(EntityTags::lastModified)
+                .orElse(-1L);
+    }
+
+    /**
+     * Reads the entity version a client expects from its {@code If-Match} header.
+     *
+     * @return {@code null} when the write is unconditional (no header, or {@code *})
+     */
+    static Long expectedVersion(String ifMatch, UUID id) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        // Weak tags never match for writes, nor do lists of tags
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"") || tag.indexOf(',') >= 0) {
+            throw new PreconditionFailedException(id);
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int separator = value.indexOf('-');
+        try {
+            return Long.parseLong(separator < 0 ? value : value.substring(0, separator));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException(id);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static String of(long version, Long categoryVersion) {
+        return quote(version + "-" + (categoryVersion == null ? NO_CATEGORY : categoryVersion));
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -1,19 +1,43 @@
 package com.dauphine.blogger.controllers;
 
+import com.dauphine.blogger.cache.ResponseCache;
+import com.dauphine.blogger.dto.ArchiveBucket;
 import com.dauphine.blogger.dto.CreationPostRequest;
+import com.dauphine.blogger.dto.ImportResult;
+import com.dauphine.blogger.dto.PostBatch;
+import com.dauphine.blogger.dto.PostPage;
+import com.dauphine.blogger.dto.PostVersion;
+import com.dauphine.blogger.dto.TrendingPost;
 import com.dauphine.blogger.dto.UpdatePostRequest;
 import com.dauphine.blogger.exceptions.CategoryNotFoundException;
 import com.dauphine.blogger.exceptions.PostNotFoundException;
-import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.exceptions.PreconditionFailedException;
 import com.dauphine.blogger.models.Post;
+import com.dauphine.blogger.services.ArchiveService;
 import com.dauphine.blogger.services.CategoryService;
+import com.dauphine.blogger.services.PostExportService;
+import com.dauphine.blogger.services.PostImportService;
 import com.dauphine.blogger.services.PostService;
+import com.dauphine.blogger.services.PostViewService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,85 +46,265 @@ import java.util.UUID;
 @Tag(name = "Post API", description = "Operations for managing blog posts")
 public class PostController {
 
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+    private static final String GRANULARITY_MONTH = "month";
+    private static final String GRANULARITY_DAY = "day";
+
     private final PostService service;
     private final CategoryService categoryService;
+    private final PostImportService importService;
+    private final PostExportService exportService;
+    private final PostViewService viewService;
+    private final ArchiveService archiveService;
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
 
-    public PostController(PostService service, CategoryService categoryService) {
+    public PostController(PostService service,
+                          CategoryService categoryService,
+                          PostImportService importService,
+                          PostExportService exportService,
+                          PostViewService viewService,
+                          ArchiveService archiveService,
+                          ResponseCache responseCache,
+                          ObjectMapper objectMapper) {
         this.service = service;
         this.categoryService = categoryService;
+        this.importService = importService;
+        this.exportService = exportService;
+        this.viewService = viewService;
+        this.archiveService = archiveService;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    @Operation(summary = "Get all posts", description = "Returns all posts ordered by creation date (newest first)")
-    public ResponseEntity<List<Post>> retrieveAllPosts(@RequestParam(required = false) String value) {
-        List<Post> posts = value == null || value.isBlank()
-                ? service.getAll()
-                : service.getAllByTitleOrContentContains(value);
-        return ResponseEntity.ok(posts);
+    @Operation(
+            summary = "Get all posts",
+            description = "Returns a page of posts ordered by creation date (newest first), or by relevance "
+                    + "when searching with 'value' (prefix matching on title and content); "
+                    + "pass the returned 'next' token as 'cursor' to fetch the following page. "
+                    + "With view=summary the listing returns id, title, date, category name and an excerpt only"
+    )
+    public ResponseEntity<?> retrieveAllPosts(
+            @RequestParam(required = false) String value,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (value != null && !value.isBlank()) {
+            return ResponseEntity.ok(service.getAllByTitleOrContentContains(value, cursor, limit));
+        }
+        boolean summary = VIEW_SUMMARY.equalsIgnoreCase(view);
+        if (cursor == null || cursor.isBlank()) {
+            // The first page is what nearly every reader asks for: served as cached bytes, keyed on
+            // the size actually served so that out-of-range limits cannot fill the cache
+            int size = PostPage.clampSize(limit);
+            return responseCache.getFeedPage(summary ? VIEW_SUMMARY : VIEW_FULL, size,
+                            () -> summary ? service.getSummaryPage(null, size) : service.getPage(null, size))
+                    .toResponse(ResponseEntity.ok(), acceptEncoding);
+        }
+        PostPage<?> page = summary ? service.getSummaryPage(cursor, limit) : service.getPage(cursor, limit);
+        return ResponseEntity.ok(page);
     }
 
-    @GetMapping("/{id}")
-    @Operation(summary = "Get post by ID", description = "Returns a single post identified by its ID")
-    public ResponseEntity<Post> retrievePostById(@PathVariable UUID id) throws PostNotFoundException {
-        Post post = service.getById(id);
-        if (post == null) {
-            throw new PostNotFoundException(id);
+    @GetMapping(params = "ids")
+    @Operation(
+            summary = "Get posts by IDs",
+            description = "Returns the posts with the given IDs (comma separated, at most 100) in the requested order, "
+                    + "and lists the IDs that match no post under 'missing'"
+    )
+    public ResponseEntity<PostBatch> retrievePostsByIds(@RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(service.getByIds(ids));
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export posts",
+            description = "Streams all posts (oldest first) as NDJSON, or as a JSON array with format=json, "
+                    + "optionally filtered by category and by creation date in [from, to)"
+    )
+    public void exportPosts(
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException, CategoryNotFoundException {
+        // Validate before the first byte is written, errors cannot be reported once streaming started
+        if (categoryId != null) {
+            categoryService.getById(categoryId);
+        }
+
+        boolean jsonArray = "json".equalsIgnoreCase(format);
+        response.setContentType(jsonArray ? MediaType.APPLICATION_JSON_VALUE : MediaType.APPLICATION_NDJSON_VALUE);
+        try (SequenceWriter writer = jsonArray
+                ? objectMapper.writer().writeValuesAsArray(response.getOutputStream())
+                : objectMapper.writer().withRootValueSeparator("\n").writeValues(response.getOutputStream())) {
+            exportService.export(categoryId, from, to, post -> {
+                try {
+                    writer.write(post);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
         }
-        return ResponseEntity.ok(post);
     }
 
-    @GetMapping("/category/{categoryId}")
-    @Operation(summary = "Get posts by category", description = "Returns all posts belonging to a specific category")
-    public ResponseEntity<List<Post>> retrievePostsByCategoryId(@PathVariable UUID categoryId)
+    @GetMapping("/trending")
+    @Operation(
+            summary = "Get trending posts",
+            description = "Returns the most read posts with their view counts; counts lag behind by up to one flush interval"
+    )
+    public ResponseEntity<List<TrendingPost>> retrieveTrendingPosts(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(viewService.getTrending(limit));
+    }
+
+    @GetMapping("/archive")
+    @Operation(
+            summary = "Get the post archive",
+            description = "Returns the number of posts created per month, or per day with granularity=day, "
+                    + "optionally in one category and between the days 'from' (included) and 'to' (excluded)"
+    )
+    public ResponseEntity<List<ArchiveBucket>> retrieveArchive(
+            @RequestParam(defaultValue = GRANULARITY_MONTH) String granularity,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to)
             throws CategoryNotFoundException {
-        // Check if category exists
-        Category category = categoryService.getById(categoryId);
-        if (category == null) {
-            throw new CategoryNotFoundException(categoryId);
+        List<ArchiveBucket> buckets = GRANULARITY_DAY.equalsIgnoreCase(granularity)
+                ? archiveService.getDailyArchive(categoryId, from, to)
+                : archiveService.getMonthlyArchive(categoryId, from, to);
+        return ResponseEntity.ok(buckets);
+    }
+
+    @PostMapping("/archive/rebuild")
+    @Operation(
+            summary = "Rebuild the post archive",
+            description = "Recomputes the archive counts from the posts; post writes wait until it completes"
+    )
+    public ResponseEntity<Void> rebuildArchive() {
+        archiveService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Get post by ID",
+            description = "Returns a single post identified by its ID; honours If-None-Match and If-Modified-Since"
+    )
+    public ResponseEntity<byte[]> retrievePostById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request)
+            throws PostNotFoundException {
+        // Answer revalidations from the version columns alone, without reading the content
+        PostVersion version = service.getVersion(id);
+        // Revalidated reads are views too; counted in memory, written behind
+        viewService.recordView(id);
+        String eTag = EntityTags.of(version);
+        long lastModified = EntityTags.lastModified(version);
+        if (request.checkNotModified(eTag, lastModified)) {
+            return null;
         }
 
-        List<Post> posts = service.getAllByCategoryId(categoryId);
-        return ResponseEntity.ok(posts);
+        // Keyed by the ETag, a payload cached before any write to the post or its category is never served
+        return responseCache.getPost(id, eTag, () -> {
+                    Post post = service.getById(id);
+                    if (post == null) {
+                        throw new PostNotFoundException(id);
+                    }
+                    return post;
+                })
+                .toResponse(ResponseEntity.ok().eTag(eTag).lastModified(lastModified), acceptEncoding);
+    }
+
+    @GetMapping("/category/{categoryId}")
+    @Operation(
+            summary = "Get posts by category",
+            description = "Returns a page of posts belonging to a specific category (newest first), "
+                    + "as summaries with view=summary"
+    )
+    public ResponseEntity<PostPage<?>> retrievePostsByCategoryId(
+            @PathVariable UUID categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = VIEW_FULL) String view)
+            throws CategoryNotFoundException {
+        PostPage<?> page = VIEW_SUMMARY.equalsIgnoreCase(view)
+                ? service.getSummaryPageByCategoryId(categoryId, cursor, limit)
+                : service.getPageByCategoryId(categoryId, cursor, limit);
+        return ResponseEntity.ok(page);
     }
 
     @PostMapping
     @Operation(summary = "Create a new post", description = "Creates a new blog post")
     public ResponseEntity<Post> createPost(@RequestBody CreationPostRequest request)
             throws CategoryNotFoundException {
-        // Validate that the category exists if provided
-        if (request.getCategoryId() != null) {
-            Category category = categoryService.getById(request.getCategoryId());
-            if (category == null) {
-                throw new CategoryNotFoundException(request.getCategoryId());
-            }
-        }
-
+        // The service validates the category, no need to look it up twice
         Post post = service.create(request.getTitle(), request.getContent(), request.getCategoryId());
         return ResponseEntity
                 .created(URI.create("/v1/posts/" + post.getId()))
+                .eTag(EntityTags.of(post))
                 .body(post);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Bulk import posts",
+            description = "Creates posts from an NDJSON stream (one post per line) and streams back "
+                    + "one NDJSON result per line with either the created id or the validation error"
+    )
+    public void importPosts(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        importService.importPosts(body, result -> writeLine(out, result));
+        out.flush();
+    }
+
     @PutMapping("/{id}")
-    @Operation(summary = "Update a post", description = "Updates an existing blog post")
+    @Operation(
+            summary = "Update a post",
+            description = "Updates an existing blog post; with If-Match, only if it still has that ETag"
+    )
     public ResponseEntity<Post> updatePost(
             @PathVariable UUID id,
-            @RequestBody UpdatePostRequest request) throws PostNotFoundException {
+            @RequestBody UpdatePostRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws PostNotFoundException, PreconditionFailedException {
 
-        Post post = service.update(id, request.getTitle(), request.getContent());
+        Post post = service.update(id, request.getTitle(), request.getContent(),
+                EntityTags.expectedVersion(ifMatch, id));
         if (post == null) {
             throw new PostNotFoundException(id);
         }
-        return ResponseEntity.ok(post);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(post))
+                .lastModified(EntityTags.lastModified(post))
+                .body(post);
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete a post", description = "Deletes a blog post by its ID")
-    public ResponseEntity<Void> deletePost(@PathVariable UUID id) throws PostNotFoundException {
-        boolean deleted = service.deleteById(id);
+    @Operation(
+            summary = "Delete a post",
+            description = "Deletes a blog post by its ID; with If-Match, only if it still has that ETag"
+    )
+    public ResponseEntity<Void> deletePost(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws PostNotFoundException, PreconditionFailedException {
+        boolean deleted = service.deleteById(id, EntityTags.expectedVersion(ifMatch, id));
         if (!deleted) {
             throw new PostNotFoundException(id);
         }
         return ResponseEntity.noContent().build();
     }
+
+    private void writeLine(OutputStream out, ImportResult result) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
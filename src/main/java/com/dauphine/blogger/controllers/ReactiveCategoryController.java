@@ -0,0 +1,46 @@
+package com.dauphine.blogger.controllers;
+
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.services.ReactiveCategoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Read side of {@link CategoryController} on R2DBC, see {@link ReactivePostController}.
+ */
+@RestController
+@RequestMapping("/v1/reactive/categories")
+@Tag(name = "Reactive Category API", description = "Non-blocking streaming reads of categories")
+public class ReactiveCategoryController {
+
+    private final ReactiveCategoryService service;
+
+    public ReactiveCategoryController(ReactiveCategoryService service) {
+        this.service = service;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream categories", description = "Streams all categories or filter like name")
+    public Flux<Category> streamCategories(@RequestParam(required = false) String name) {
+        if (name != null && !name.isBlank()) {
+            return service.getAllLikeName(name);
+        }
+        return service.getAll();
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get category by ID", description = "Returns a single category identified by its ID")
+    public Mono<Category> retrieveCategoryById(@PathVariable UUID id) {
+        return service.getById(id);
+    }
+}
@@ -0,0 +1,73 @@
+package com.dauphine.blogger.controllers;
+
+import com.dauphine.blogger.models.Post;
+import com.dauphine.blogger.services.ReactiveCategoryService;
+import com.dauphine.blogger.services.ReactivePostService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Read side of {@link PostController} on R2DBC. Listings are streamed as NDJSON, one post per line,
+ * with demand driven by the client: the request thread is released while rows are in flight and
+ * the next row is only requested once the previous line has been written.
+ */
+@RestController
+@RequestMapping("/v1/reactive/posts")
+@Tag(name = "Reactive Post API", description = "Non-blocking streaming reads of blog posts")
+public class ReactivePostController {
+
+    private final ReactivePostService service;
+    private final ReactiveCategoryService categoryService;
+
+    public ReactivePostController(ReactivePostService service, ReactiveCategoryService categoryService) {
+        this.service = service;
+        this.categoryService = categoryService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Stream posts",
+            description = "Streams up to 'limit' posts ordered by creation date (newest first), or by relevance "
+                    + "when searching with 'value'; accepts the same 'cursor' tokens as /v1/posts"
+    )
+    public Flux<Post> streamPosts(
+            @RequestParam(required = false) String value,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (value != null && !value.isBlank()) {
+            return service.getAllByTitleOrContentContains(value, cursor, limit);
+        }
+        return service.getStream(cursor, limit);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get post by ID", description = "Returns a single post identified by its ID")
+    public Mono<Post> retrievePostById(@PathVariable UUID id) {
+        return service.getById(id);
+    }
+
+    @GetMapping(value = "/category/{categoryId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Stream posts by category",
+            description = "Streams up to 'limit' posts belonging to a specific category (newest first)"
+    )
+    public Mono<ResponseEntity<Flux<Post>>> streamPostsByCategoryId(
+            @PathVariable UUID categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        // Resolve the category before the stream commits the response, so an unknown one is still a 404
+        return categoryService.getById(categoryId)
+                .map(category -> ResponseEntity.ok(service.getStreamByCategoryId(categoryId, cursor, limit)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.dauphine.blogger.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Archive entry: the number of posts created in the day or month starting on {@code start}.
+ */
+public class ArchiveBucket {
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private final LocalDate start;
+    private final long postCount;
+
+    public ArchiveBucket(LocalDate start, long postCount) {
+        this.start = start;
+        this.postCount = postCount;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public long getPostCount() {
+        return postCount;
+    }
+}
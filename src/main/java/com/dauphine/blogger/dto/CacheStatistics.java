@@ -0,0 +1,37 @@
+package com.dauphine.blogger.dto;
+
+public class CacheStatistics {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final double hitRate;
+    private final long size;
+
+    public CacheStatistics(long hits, long misses, long evictions, double hitRate, long size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.hitRate = hitRate;
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public long getSize() {
+        return size;
+    }
+}
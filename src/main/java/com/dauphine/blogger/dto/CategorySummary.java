@@ -0,0 +1,44 @@
+package com.dauphine.blogger.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Sidebar entry: a category with its number of posts and the date of the newest one.
+ */
+public class CategorySummary {
+    private final UUID id;
+    private final String name;
+    private final long postCount;
+    @JsonFormat(
+            shape = JsonFormat.Shape.STRING,
+            pattern = "yyyy-MM-dd'T'HH:mm:ss",
+            timezone = "Europe/Paris"
+    )
+    private final LocalDateTime latestPostDate;
+
+    public CategorySummary(UUID id, String name, long postCount, LocalDateTime latestPostDate) {
+        this.id = id;
+        this.name = name;
+        this.postCount = postCount;
+        this.latestPostDate = latestPostDate;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getPostCount() {
+        return postCount;
+    }
+
+    public LocalDateTime getLatestPostDate() {
+        return latestPostDate;
+    }
+}
@@ -0,0 +1,38 @@
+package com.dauphine.blogger.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportResult {
+    private final long line;
+    private final UUID id;
+    private final String error;
+
+    private ImportResult(long line, UUID id, String error) {
+        this.line = line;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static ImportResult created(long line, UUID id) {
+        return new ImportResult(line, id, null);
+    }
+
+    public static ImportResult failed(long line, String error) {
+        return new ImportResult(line, null, error);
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,28 @@
+package com.dauphine.blogger.dto;
+
+import com.dauphine.blogger.models.Post;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a multi-get: the posts found, in the order they were asked for, and the ids
+ * that match no post.
+ */
+public class PostBatch {
+    private final List<Post> items;
+    private final List<UUID> missing;
+
+    public PostBatch(List<Post> items, List<UUID> missing) {
+        this.items = items;
+        this.missing = missing;
+    }
+
+    public List<Post> getItems() {
+        return items;
+    }
+
+    public List<UUID> getMissing() {
+        return missing;
+    }
+}
@@ -0,0 +1,61 @@
+package com.dauphine.blogger.dto;
+
+import com.dauphine.blogger.exceptions.InvalidCursorException;
+import com.dauphine.blogger.models.Post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position on {@code (created_date, id)}, exchanged with clients as a base64url token.
+ */
+public class PostCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdDate;
+    private final UUID id;
+
+    public PostCursor(LocalDateTime createdDate, UUID id) {
+        this.createdDate = createdDate;
+        this.id = id;
+    }
+
+    public static PostCursor of(Post post) {
+        return new PostCursor(post.getCreatedDate(), post.getId());
+    }
+
+    public static PostCursor of(PostSummary summary) {
+        return new PostCursor(summary.getCreatedDate(), summary.getId());
+    }
+
+    public static PostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String raw = createdDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,43 @@
+package com.dauphine.blogger.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class PostPage<T> {
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> items;
+    private final String next;
+
+    public PostPage(List<T> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    /**
+     * Brings a requested page size within {@code [1, MAX_SIZE]}.
+     */
+    public static int clampSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_SIZE);
+    }
+
+    /**
+     * Builds a page from a window fetched with {@code limit + 1} rows: the extra row only
+     * signals that another page exists and is never returned.
+     */
+    public static <T> PostPage<T> of(List<T> window, int limit, Function<T, PostCursor> positionOf) {
+        if (window.size() <= limit) {
+            return new PostPage<>(window, null);
+        }
+        List<T> items = window.subList(0, limit);
+        return new PostPage<>(items, positionOf.apply(items.get(limit - 1)).encode());
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNext() {
+        return next;
+    }
+}
@@ -0,0 +1,52 @@
+package com.dauphine.blogger.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Feed entry: what listings need to render a post without shipping its content body.
+ */
+public class PostSummary {
+    public static final int EXCERPT_LENGTH = 200;
+
+    private final UUID id;
+    private final String title;
+    @JsonFormat(
+            shape = JsonFormat.Shape.STRING,
+            pattern = "yyyy-MM-dd'T'HH:mm:ss",
+            timezone = "Europe/Paris"
+    )
+    private final LocalDateTime createdDate;
+    private final String categoryName;
+    private final String excerpt;
+
+    public PostSummary(UUID id, String title, LocalDateTime createdDate, String categoryName, String excerpt) {
+        this.id = id;
+        this.title = title;
+        this.createdDate = createdDate;
+        this.categoryName = categoryName;
+        this.excerpt = excerpt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+}
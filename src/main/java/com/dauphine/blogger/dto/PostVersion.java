@@ -0,0 +1,36 @@
+package com.dauphine.blogger.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * What conditional requests need to know about a post, read without loading its content.
+ */
+public class PostVersion {
+    private final long version;
+    private final LocalDateTime updatedDate;
+    private final Long categoryVersion;
+    private final LocalDateTime categoryUpdatedDate;
+
+    public PostVersion(long version, LocalDateTime updatedDate, Long categoryVersion, LocalDateTime categoryUpdatedDate) {
+        this.version = version;
+        this.updatedDate = updatedDate;
+        this.categoryVersion = categoryVersion;
+        this.categoryUpdatedDate = categoryUpdatedDate;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public Long getCategoryVersion() {
+        return categoryVersion;
+    }
+
+    public LocalDateTime getCategoryUpdatedDate() {
+        return categoryUpdatedDate;
+    }
+}
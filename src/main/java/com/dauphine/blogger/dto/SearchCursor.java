@@ -0,0 +1,44 @@
+package com.dauphine.blogger.dto;
+
+import com.dauphine.blogger.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position in a relevance-ranked search result, exchanged with clients as a base64url token.
+ */
+public class SearchCursor {
+    private static final String PREFIX = "search|";
+
+    private final int offset;
+
+    public SearchCursor(int offset) {
+        this.offset = offset;
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidCursorException(token);
+            }
+            int offset = Integer.parseInt(raw.substring(PREFIX.length()));
+            if (offset < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new SearchCursor(offset);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+}
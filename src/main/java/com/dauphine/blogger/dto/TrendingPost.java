@@ -0,0 +1,22 @@
+package com.dauphine.blogger.dto;
+
+/**
+ * Entry of the "most read" ranking.
+ */
+public class TrendingPost {
+    private final PostSummary post;
+    private final long views;
+
+    public TrendingPost(PostSummary post, long views) {
+        this.post = post;
+        this.views = views;
+    }
+
+    public PostSummary getPost() {
+        return post;
+    }
+
+    public long getViews() {
+        return views;
+    }
+}
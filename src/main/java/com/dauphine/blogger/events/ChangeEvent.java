@@ -0,0 +1,45 @@
+package com.dauphine.blogger.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.UUID;
+
+/**
+ * An {@link EntityChange} as sent to subscribers; the sequence is the SSE event id, which clients
+ * send back as {@code Last-Event-ID} to resume.
+ */
+public final class ChangeEvent {
+
+    private final long sequence;
+    private final EntityChange change;
+
+    ChangeEvent(long sequence, EntityChange change) {
+        this.sequence = sequence;
+        this.change = change;
+    }
+
+    @JsonIgnore
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * SSE event name, e.g. {@code post.created}.
+     */
+    @JsonIgnore
+    public String getName() {
+        return change.getEntity() + "." + change.getAction();
+    }
+
+    public String getEntity() {
+        return change.getEntity();
+    }
+
+    public String getAction() {
+        return change.getAction();
+    }
+
+    public UUID getId() {
+        return change.getId();
+    }
+}
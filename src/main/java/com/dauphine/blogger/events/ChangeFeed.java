@@ -0,0 +1,142 @@
+package com.dauphine.blogger.events;
+
+import com.dauphine.blogger.exceptions.TooManySubscribersException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed changes to Server-Sent Events subscribers.
+ * <p>
+ * Changes enter a bounded {@link EventRing} once their transaction commits. Each subscriber holds an
+ * async request, no servlet thread, and a virtual thread that sends the ring from its own position:
+ * a slow client only delays itself. A subscriber that falls more than the ring's capacity behind,
+ * or resumes from a {@code Last-Event-ID} that is no longer retained, receives a {@code reset} event
+ * carrying the current position and should reload what it displays.
+ * <p>
+ * Changes are those of this instance only.
+ */
+@Component
+public class ChangeFeed implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeed.class);
+
+    static final String RESET = "reset";
+    private static final int MAX_BATCH = 100;
+
+    private final EventRing ring;
+    private final Duration heartbeat;
+    private final Duration timeout;
+    private final int maxSubscribers;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final ThreadFactory threads = Thread.ofVirtual().name("change-feed-", 0).factory();
+
+    public ChangeFeed(@Value("${blogger.changes.capacity:4096}") int capacity,
+                      @Value("${blogger.changes.heartbeat:15s}") Duration heartbeat,
+                      @Value("${blogger.changes.timeout:30m}") Duration timeout,
+                      @Value("${blogger.changes.max-subscribers:10000}") int maxSubscribers) {
+        this.ring = new EventRing(capacity, EventRing.clockStart());
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * A change published outside of any transaction is delivered at once.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(EntityChange change) {
+        ring.append(change);
+    }
+
+    /**
+     * @param lastEventId the last event the client received, {@code null} to only receive new ones
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new TooManySubscribersException(maxSubscribers);
+        }
+        // Clients reconnect on timeout and resume with Last-Event-ID
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(emitter,
+                lastEventId == null ? ring.getLatestSequence() : lastEventId);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        threads.newThread(subscription).start();
+        return emitter;
+    }
+
+    long getLatestSequence() {
+        return ring.getLatestSequence();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("blogger.changes.subscribers", subscribers, AtomicInteger::get)
+                .description("Open change feed connections")
+                .register(registry);
+    }
+
+    private final class Subscription implements Runnable {
+        private final SseEmitter emitter;
+        private volatile boolean open = true;
+        private long position;
+
+        private Subscription(SseEmitter emitter, long position) {
+            this.emitter = emitter;
+            this.position = position;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (open) {
+                    List<ChangeEvent> events = ring.awaitAfter(position, MAX_BATCH, heartbeat);
+                    if (events == null) {
+                        position = ring.getLatestSequence();
+                        emitter.send(SseEmitter.event().id(String.valueOf(position)).name(RESET).data(""));
+                    } else if (events.isEmpty()) {
+                        // Lets proxies keep the connection open and detects clients that left
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        for (ChangeEvent event : events) {
+                            emitter.send(SseEmitter.event()
+                                    .id(String.valueOf(event.getSequence()))
+                                    .name(event.getName())
+                                    .data(event, MediaType.APPLICATION_JSON));
+                            position = event.getSequence();
+                        }
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client left, or the emitter completed in between
+                logger.debug("[CHANGES] Subscription ended: {}", e.getMessage());
+                emitter.complete();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } finally {
+                subscribers.decrementAndGet();
+            }
+        }
+
+        private void close() {
+            open = false;
+        }
+    }
+}
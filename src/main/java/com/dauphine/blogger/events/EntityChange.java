@@ -0,0 +1,39 @@
+package com.dauphine.blogger.events;
+
+import java.util.UUID;
+
+/**
+ * A post or a category created, updated or deleted. Published by the services within their
+ * transaction, delivered to the change feed once it commits.
+ */
+public final class EntityChange {
+
+    public static final String POST = "post";
+    public static final String CATEGORY = "category";
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    private final String entity;
+    private final String action;
+    private final UUID id;
+
+    public EntityChange(String entity, String action, UUID id) {
+        this.entity = entity;
+        this.action = action;
+        this.id = id;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
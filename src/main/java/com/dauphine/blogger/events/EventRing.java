@@ -0,0 +1,95 @@
+package com.dauphine.blogger.events;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The last {@code capacity} change events, numbered by an increasing sequence. Appending never
+ * waits for readers: each reader keeps its own position, and one that falls more than
+ * {@code capacity} events behind has lost the events in between.
+ * <p>
+ * The sequence starts from the clock, so that positions kept by clients across a restart are
+ * older than every event of the new ring instead of pointing into it.
+ */
+final class EventRing {
+
+    private final ChangeEvent[] slots;
+    private final long first;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long head;
+
+    EventRing(int capacity, long start) {
+        this.slots = new ChangeEvent[capacity];
+        this.first = start + 1;
+        this.head = start;
+    }
+
+    ChangeEvent append(EntityChange change) {
+        lock.lock();
+        try {
+            ChangeEvent event = new ChangeEvent(++head, change);
+            slots[slot(event.getSequence())] = event;
+            appended.signalAll();
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getLatestSequence() {
+        lock.lock();
+        try {
+            return head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits up to {@code timeout} for events after {@code after}.
+     *
+     * @return at most {@code max} events, empty on timeout, or {@code null} when the events right
+     * after {@code after} are no longer retained, or never were
+     */
+    List<ChangeEvent> awaitAfter(long after, int max, Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = timeout.toNanos();
+            while (head == after) {
+                if (nanos <= 0) {
+                    return List.of();
+                }
+                nanos = appended.awaitNanos(nanos);
+            }
+            if (!isRetained(after)) {
+                return null;
+            }
+            int count = (int) Math.min(head - after, max);
+            List<ChangeEvent> events = new ArrayList<>(count);
+            for (long sequence = after + 1; sequence <= after + count; sequence++) {
+                events.add(slots[slot(sequence)]);
+            }
+            return events;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isRetained(long after) {
+        return after >= first - 1 && after >= head - slots.length && after <= head;
+    }
+
+    private int slot(long sequence) {
+        return (int) Math.floorMod(sequence, (long) slots.length);
+    }
+
+    static long clockStart() {
+        // Microseconds: ahead of the previous process unless it averaged over 1000 events per millisecond
+        return TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    }
+}
@@ -1,8 +1,23 @@
 package com.dauphine.blogger.exceptions;
 
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
 public class CategoryNameAlreadyExistsException extends RuntimeException {
 
+    // Unique index on lower(name), see db/migration/V3__query_indexes.sql
+    private static final String NAME_INDEX = "idx_category_name_lower";
+
     public CategoryNameAlreadyExistsException(String name) {
         super(String.format("Category with name '%s' already exists", name));
     }
-}
\ No newline at end of file
+
+    /**
+     * Whether a write was rejected by the unique index on category names.
+     */
+    public static boolean isCause(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(NAME_INDEX);
+    }
+}
@@ -2,7 +2,11 @@ package com.dauphine.blogger.exceptions;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -30,6 +34,62 @@ public class GlobalDefaultExceptionHandler {
                 .body(ex.getMessage());
     }
 
+    /**
+     * Name conflicts are detected by the database; the service reports them with the name,
+     * this covers any other write rejected by the same index.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        if (!CategoryNameAlreadyExistsException.isCause(ex)) {
+            return handleGlobalException(ex);
+        }
+        logger.warn("[CONFLICT] {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity
+                .status(409)
+                .body("Category with this name already exists");
+    }
+
+    @ExceptionHandler({
+            PreconditionFailedException.class,
+            OptimisticLockingFailureException.class
+    })
+    public ResponseEntity<String> handlePreconditionFailedException(Exception ex) {
+        logger.warn("[PRECONDITION FAILED] {}", ex.getMessage());
+        return ResponseEntity
+                .status(412)
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler({
+            InvalidCursorException.class,
+            TooManyIdsException.class
+    })
+    public ResponseEntity<String> handleBadRequestException(Exception ex) {
+        logger.warn("[BAD REQUEST] {}", ex.getMessage());
+        return ResponseEntity
+                .status(400)
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler({
+            CannotCreateTransactionException.class,
+            DataAccessResourceFailureException.class
+    })
+    public ResponseEntity<String> handleUnavailableException(Exception ex) {
+        logger.warn("[SERVICE UNAVAILABLE] {}", ex.getMessage());
+        return ResponseEntity
+                .status(503)
+                .body("The database is busy, please retry later");
+    }
+
+    @ExceptionHandler(TooManySubscribersException.class)
+    public ResponseEntity<String> handleTooManySubscribersException(TooManySubscribersException ex) {
+        logger.warn("[SERVICE UNAVAILABLE] {}", ex.getMessage());
+        return ResponseEntity
+                .status(503)
+                .body(ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGlobalException(Exception ex) {
         logger.error("[INTERNAL SERVER ERROR] {}", ex.getMessage(), ex);
@@ -0,0 +1,8 @@
+package com.dauphine.blogger.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super(String.format("Invalid pagination cursor: '%s'", cursor));
+    }
+}
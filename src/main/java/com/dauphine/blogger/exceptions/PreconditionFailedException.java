@@ -0,0 +1,8 @@
+package com.dauphine.blogger.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(Object id) {
+        super(String.format("Resource with id '%s' was modified since it was last read", id));
+    }
+}
@@ -0,0 +1,8 @@
+package com.dauphine.blogger.exceptions;
+
+public class TooManyIdsException extends RuntimeException {
+
+    public TooManyIdsException(int count, int max) {
+        super(String.format("Too many ids: %d requested, at most %d allowed", count, max));
+    }
+}
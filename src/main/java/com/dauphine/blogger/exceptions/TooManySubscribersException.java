@@ -0,0 +1,8 @@
+package com.dauphine.blogger.exceptions;
+
+public class TooManySubscribersException extends RuntimeException {
+
+    public TooManySubscribersException(int max) {
+        super(String.format("The change feed already serves %d subscribers, please retry later", max));
+    }
+}
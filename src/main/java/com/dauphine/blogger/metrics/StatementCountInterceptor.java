@@ -0,0 +1,74 @@
+package com.dauphine.blogger.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Records how many SQL statements each endpoint issues ({@code blogger.request.statements}) and
+ * flags N+1 patterns ({@code blogger.request.n_plus_one}): the same statement prepared at least
+ * {@code blogger.metrics.n-plus-one-threshold} times within one request.
+ */
+@Component
+public class StatementCountInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementCountInterceptor.class);
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry registry;
+    private final int nPlusOneThreshold;
+
+    public StatementCountInterceptor(StatementCounter statementCounter,
+                                     MeterRegistry registry,
+                                     @Value("${blogger.metrics.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.statementCounter = statementCounter;
+        this.registry = registry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Map<String, Integer> counts = statementCounter.stop();
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+
+        int total = counts.values().stream().mapToInt(Integer::intValue).sum();
+        DistributionSummary.builder("blogger.request.statements")
+                .description("SQL statements prepared per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(registry)
+                .record(total);
+
+        counts.forEach((sql, count) -> {
+            if (count >= nPlusOneThreshold) {
+                logger.warn("[N+1] {} {} prepared {} times: {}", method, uri, count, sql);
+                Counter.builder("blogger.request.n_plus_one")
+                        .description("Requests repeating the same SQL statement past the threshold")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(registry)
+                        .increment();
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.dauphine.blogger.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()}
+ * and {@link #stop()}, grouped by statement text.
+ * <p>
+ * Registered as Hibernate's statement inspector; statements prepared outside a counting
+ * window (schedulers, startup) are ignored.
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Map<String, Integer>> COUNTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Map<String, Integer> counts = COUNTS.get();
+        if (counts != null) {
+            counts.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    public void start() {
+        COUNTS.set(new HashMap<>());
+    }
+
+    /**
+     * Ends the counting window of the current thread.
+     *
+     * @return how many times each statement was prepared, empty when no window was open
+     */
+    public Map<String, Integer> stop() {
+        Map<String, Integer> counts = COUNTS.get();
+        COUNTS.remove();
+        return counts == null ? Map.of() : counts;
+    }
+}
@@ -1,23 +1,59 @@
 package com.dauphine.blogger.models;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "category")
-public class Category {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
+@BatchSize(size = 100)
+public class Category implements Persistable<UUID> {
 
     @Id
+    @UuidV7
     @Column(name = "id")
     private UUID id;
 
     @Column(name = "name")
     private String name;
 
+    @Column(name = "updated_date")
+    @JsonFormat(
+            shape = JsonFormat.Shape.STRING,
+            pattern = "yyyy-MM-dd'T'HH:mm:ss",
+            timezone = "Europe/Paris"
+    )
+    private LocalDateTime updatedDate;
+
+    @Version
+    @Column(name = "version")
+    @JsonIgnore
+    private long version;
+
+    // Ids are assigned by the application, so tell Spring Data which instances need an INSERT
+    // instead of letting merge() issue a SELECT first
+    @Transient
+    private boolean isNew = true;
+
     public Category(UUID id, String name) {
         this.id = id;
         this.name = name;
@@ -42,4 +78,34 @@ public class Category {
         this.id = id;
     }
 
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public void setUpdatedDate(LocalDateTime updatedDate) {
+        this.updatedDate = updatedDate;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedDate = LocalDateTime.now();
+    }
+
 }
\ No newline at end of file
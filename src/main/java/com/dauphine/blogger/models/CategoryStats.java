@@ -0,0 +1,67 @@
+package com.dauphine.blogger.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Post count and latest post date of a category, inserted with the category and kept up to date
+ * by relative updates in the transactions that create or delete its posts, see CategoryStatsRepository.
+ */
+@Entity
+@Table(name = "category_stats")
+public class CategoryStats implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "category_id")
+    private UUID categoryId;
+
+    @Column(name = "post_count")
+    private long postCount;
+
+    @Column(name = "latest_post_date")
+    private LocalDateTime latestPostDate;
+
+    // Inserted once with its category, never merged, see Category#isNew
+    @Transient
+    private boolean isNew = true;
+
+    public CategoryStats() {
+    }
+
+    public CategoryStats(UUID categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    @Override
+    public UUID getId() {
+        return categoryId;
+    }
+
+    public long getPostCount() {
+        return postCount;
+    }
+
+    public LocalDateTime getLatestPostDate() {
+        return latestPostDate;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
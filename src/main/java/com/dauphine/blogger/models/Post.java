@@ -1,21 +1,39 @@
 package com.dauphine.blogger.models;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "post")
-public class Post {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post")
+public class Post implements Persistable<UUID> {
 
     @Id
+    @UuidV7
     @Column(name = "id")
     private UUID id;
     @Column(name = "content")
@@ -32,10 +50,31 @@ public class Post {
     )
     private LocalDateTime createdDate;
 
-    @ManyToOne
+    // Lazy: queries that return posts to clients fetch it explicitly, see PostRepository
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
+    // Like V1: deleting a category keeps its posts, the database clears their reference
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Category category;
 
+    @Column(name = "updated_date")
+    @JsonFormat(
+            shape = JsonFormat.Shape.STRING,
+            pattern = "yyyy-MM-dd'T'HH:mm:ss",
+            timezone = "Europe/Paris"
+    )
+    private LocalDateTime updatedDate;
+
+    @Version
+    @Column(name = "version")
+    @JsonIgnore
+    private long version;
+
+    // Ids are assigned by the application, see Category#isNew
+    @Transient
+    private boolean isNew = true;
+
     public Post() {
     }
 
@@ -87,5 +126,34 @@ public class Post {
         return content;
     }
 
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public void setUpdatedDate(LocalDateTime updatedDate) {
+        this.updatedDate = updatedDate;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedDate = LocalDateTime.now();
+    }
 
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.dauphine.blogger.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Number of posts created on a day, per category and, under {@link #ALL_CATEGORIES}, in total.
+ * Upserted by the transactions that create or delete posts, see PostArchiveRepository.
+ */
+@Entity
+@Table(name = "post_archive")
+@IdClass(PostArchive.Key.class)
+public class PostArchive {
+
+    /**
+     * Key of the totals over every post, with or without a category; no category has this id.
+     */
+    public static final UUID ALL_CATEGORIES = new UUID(0, 0);
+
+    @Id
+    @Column(name = "category_id")
+    private UUID categoryId;
+
+    @Id
+    @Column(name = "created_on")
+    private LocalDate createdOn;
+
+    @Column(name = "post_count")
+    private long postCount;
+
+    public PostArchive() {
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public LocalDate getCreatedOn() {
+        return createdOn;
+    }
+
+    public long getPostCount() {
+        return postCount;
+    }
+
+    public static class Key implements Serializable {
+        private UUID categoryId;
+        private LocalDate createdOn;
+
+        public Key() {
+        }
+
+        public Key(UUID categoryId, LocalDate createdOn) {
+            this.categoryId = categoryId;
+            this.createdOn = createdOn;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(categoryId, key.categoryId) && Objects.equals(createdOn, key.createdOn);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(categoryId, createdOn);
+        }
+    }
+}
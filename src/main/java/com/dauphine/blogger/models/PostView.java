@@ -0,0 +1,40 @@
+package com.dauphine.blogger.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.util.UUID;
+
+/**
+ * Persisted view count of a post. Only read through JPA, the counts are upserted in batches,
+ * see PostViewServiceImpl.
+ */
+@Entity
+@Table(name = "post_view")
+public class PostView {
+
+    @Id
+    @Column(name = "post_id")
+    private UUID postId;
+
+    @Column(name = "views")
+    private long views;
+
+    public PostView() {
+    }
+
+    public PostView(UUID postId, long views) {
+        this.postId = postId;
+        this.views = views;
+    }
+
+    public UUID getPostId() {
+        return postId;
+    }
+
+    public long getViews() {
+        return views;
+    }
+}
@@ -0,0 +1,58 @@
+package com.dauphine.blogger.models;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7): a 48-bit Unix millisecond timestamp followed by a
+ * 12-bit sequence and 62 random bits. Consecutive ids land next to each other in the primary
+ * key B-tree instead of scattering like random v4 ids.
+ * <p>
+ * Ids are strictly increasing within this JVM, even within one millisecond: the timestamp and
+ * sequence are advanced together with a single compare-and-set, so generation never locks.
+ * When more than 4096 ids are requested in one millisecond the sequence carries into the
+ * timestamp, which briefly runs ahead of the clock rather than breaking the ordering.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION = 0x7L << SEQUENCE_BITS;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // Last issued (timestamp << SEQUENCE_BITS | sequence)
+    private static final AtomicLong LAST = new AtomicLong();
+
+    public static UUID next() {
+        long current;
+        long next;
+        do {
+            current = LAST.get();
+            next = Math.max(System.currentTimeMillis() << SEQUENCE_BITS, current + 1);
+        } while (!LAST.compareAndSet(current, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long mostSignificantBits = (timestamp << 16) | VERSION | (next & SEQUENCE_MASK);
+        long leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -2,13 +2,16 @@ package com.dauphine.blogger.repositories;
 
 import com.dauphine.blogger.models.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.util.List;
 import java.util.UUID;
 
+@Transactional(readOnly = true)
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
     @Query("""
             SELECT category
@@ -17,6 +20,31 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
     """)
     List<Category> findAllLikeName(@Param("name") String name);
 
-    boolean existsByName(String name);
+    /**
+     * Case-insensitive, like the unique index on {@code lower(name)} that serves it.
+     */
+    @Query("""
+            SELECT COUNT(category) > 0
+            FROM Category category
+            WHERE LOWER(category.name) = LOWER(:name)
+    """)
+    boolean existsByName(@Param("name") String name);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM Category category
+            WHERE category.id = :id
+    """)
+    int deleteByIdReturningCount(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM Category category
+            WHERE category.id = :id
+            AND category.version = :version
+    """)
+    int deleteByIdAndVersionReturningCount(@Param("id") UUID id, @Param("version") long version);
 
 }
@@ -0,0 +1,63 @@
+package com.dauphine.blogger.repositories;
+
+import com.dauphine.blogger.dto.CategorySummary;
+import com.dauphine.blogger.models.CategoryStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Counters are only changed relative to their current value: the row lock taken by each UPDATE
+ * serializes concurrent writers of the same category without losing any of their changes.
+ */
+@Transactional(readOnly = true)
+public interface CategoryStatsRepository extends JpaRepository<CategoryStats, UUID> {
+
+    @Query("""
+            SELECT new com.dauphine.blogger.dto.CategorySummary(
+                category.id, category.name, COALESCE(stats.postCount, 0L), stats.latestPostDate)
+            FROM Category category
+            LEFT JOIN CategoryStats stats ON stats.categoryId = category.id
+            ORDER BY category.name
+    """)
+    List<CategorySummary> findAllSummaries();
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE CategoryStats stats
+            SET stats.postCount = stats.postCount + :count,
+                stats.latestPostDate = CASE
+                    WHEN stats.latestPostDate IS NULL OR stats.latestPostDate < :createdDate THEN :createdDate
+                    ELSE stats.latestPostDate
+                END
+            WHERE stats.categoryId = :categoryId
+    """)
+    int addPosts(@Param("categoryId") UUID categoryId,
+                 @Param("count") long count,
+                 @Param("createdDate") LocalDateTime createdDate);
+
+    /**
+     * Must run after the post is deleted. The latest date is only looked up again when the deleted
+     * post was the latest one, with one probe of the (category_id, created_date) index; a newer post
+     * committed concurrently has already moved the date past it.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE CategoryStats stats
+            SET stats.postCount = stats.postCount - 1,
+                stats.latestPostDate = CASE
+                    WHEN stats.latestPostDate > :createdDate THEN stats.latestPostDate
+                    ELSE (SELECT MAX(post.createdDate) FROM Post post WHERE post.category.id = :categoryId)
+                END
+            WHERE stats.categoryId = :categoryId
+    """)
+    int removePost(@Param("categoryId") UUID categoryId, @Param("createdDate") LocalDateTime createdDate);
+}
@@ -0,0 +1,85 @@
+package com.dauphine.blogger.repositories;
+
+import com.dauphine.blogger.models.PostArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Like the category counters, days are only changed relative to their current value. The first post
+ * of a day inserts its row, a concurrent one waits on the conflicting key and adds to it instead.
+ */
+@Transactional(readOnly = true)
+public interface PostArchiveRepository extends JpaRepository<PostArchive, PostArchive.Key> {
+
+    /**
+     * Served by the primary key, (category_id, created_on), for any range.
+     */
+    @Query("""
+            SELECT archive
+            FROM PostArchive archive
+            WHERE archive.categoryId = :categoryId
+            AND archive.createdOn >= :from
+            AND archive.createdOn < :to
+            AND archive.postCount > 0
+            ORDER BY archive.createdOn
+    """)
+    List<PostArchive> findDays(@Param("categoryId") UUID categoryId,
+                               @Param("from") LocalDate from,
+                               @Param("to") LocalDate to);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            INSERT INTO PostArchive (categoryId, createdOn, postCount)
+            VALUES (:categoryId, :createdOn, :count)
+            ON CONFLICT (categoryId, createdOn) DO UPDATE
+            SET postCount = postCount + excluded.postCount
+    """)
+    int addPosts(@Param("categoryId") UUID categoryId,
+                 @Param("createdOn") LocalDate createdOn,
+                 @Param("count") long count);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE PostArchive archive
+            SET archive.postCount = archive.postCount - 1
+            WHERE archive.categoryId IN :categoryIds
+            AND archive.createdOn = :createdOn
+    """)
+    int removePost(@Param("categoryIds") Collection<UUID> categoryIds, @Param("createdOn") LocalDate createdOn);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PostArchive")
+    int deleteAllRows();
+
+    @Transactional
+    @Modifying
+    @Query("""
+            INSERT INTO PostArchive (categoryId, createdOn, postCount)
+            SELECT :allCategories, CAST(post.createdDate AS LocalDate), COUNT(post)
+            FROM Post post
+            GROUP BY CAST(post.createdDate AS LocalDate)
+    """)
+    int insertTotalsFromPosts(@Param("allCategories") UUID allCategories);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            INSERT INTO PostArchive (categoryId, createdOn, postCount)
+            SELECT post.category.id, CAST(post.createdDate AS LocalDate), COUNT(post)
+            FROM Post post
+            WHERE post.category IS NOT NULL
+            GROUP BY post.category.id, CAST(post.createdDate AS LocalDate)
+    """)
+    int insertCategoryCountsFromPosts();
+}
@@ -1,23 +1,219 @@
 package com.dauphine.blogger.repositories;
 
+import com.dauphine.blogger.dto.PostSummary;
+import com.dauphine.blogger.dto.PostVersion;
 import com.dauphine.blogger.models.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+@Transactional(readOnly = true)
 public interface PostRepository extends JpaRepository<Post, UUID> {
+    /**
+     * Cached by the query cache: the ids are kept in {@code post-by-category} and the posts themselves
+     * come from the {@code post} region. Hibernate drops the result on any write to {@code post}.
+     */
+    @EntityGraph(attributePaths = "category")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "post-by-category")
+    })
     List<Post> findAllByCategoryId(UUID categoryId);
 
+    @Override
+    @EntityGraph(attributePaths = "category")
+    List<Post> findAll();
+
+    /**
+     * A single {@code IN} query; the order of the rows is not the order of the ids.
+     */
+    @Override
+    @EntityGraph(attributePaths = "category")
+    List<Post> findAllById(Iterable<UUID> ids);
+
+    @Query("""
+            SELECT new com.dauphine.blogger.dto.PostSummary(
+                post.id, post.title, post.createdDate, category.name,
+                SUBSTRING(post.content, 1, :excerptLength))
+            FROM Post post
+            LEFT JOIN post.category category
+            ORDER BY post.createdDate DESC, post.id DESC
+    """)
+    List<PostSummary> findNewestSummaries(@Param("excerptLength") int excerptLength, Limit limit);
+
+    @Query("""
+            SELECT new com.dauphine.blogger.dto.PostSummary(
+                post.id, post.title, post.createdDate, category.name,
+                SUBSTRING(post.content, 1, :excerptLength))
+            FROM Post post
+            LEFT JOIN post.category category
+            WHERE (post.createdDate, post.id) < (:createdDate, :id)
+            ORDER BY post.createdDate DESC, post.id DESC
+    """)
+    List<PostSummary> findNewestSummariesBefore(@Param("excerptLength") int excerptLength,
+                                                @Param("createdDate") LocalDateTime createdDate,
+                                                @Param("id") UUID id,
+                                                Limit limit);
+
+    @Query("""
+            SELECT new com.dauphine.blogger.dto.PostSummary(
+                post.id, post.title, post.createdDate, category.name,
+                SUBSTRING(post.content, 1, :excerptLength))
+            FROM Post post
+            JOIN post.category category
+            WHERE category.id = :categoryId
+            ORDER BY post.createdDate DESC, post.id DESC
+    """)
+    List<PostSummary> findNewestSummariesByCategoryId(@Param("excerptLength") int excerptLength,
+                                                      @Param("categoryId") UUID categoryId,
+                                                      Limit limit);
+
+    @Query("""
+            SELECT new com.dauphine.blogger.dto.PostSummary(
+                post.id, post.title, post.createdDate, category.name,
+                SUBSTRING(post.content, 1, :excerptLength))
+            FROM Post post
+            JOIN post.category category
+            WHERE category.id = :categoryId
+            AND (post.createdDate, post.id) < (:createdDate, :id)
+            ORDER BY post.createdDate DESC, post.id DESC
+    """)
+    List<PostSummary> findNewestSummariesByCategoryIdBefore(@Param("excerptLength") int excerptLength,
+                                                            @Param("categoryId") UUID categoryId,
+                                                            @Param("createdDate") LocalDateTime createdDate,
+                                                            @Param("id") UUID id,
+                                                            Limit limit);
+
+    @Query("""
+            SELECT new com.dauphine.blogger.dto.PostSummary(
+                post.id, post.title, post.createdDate, category.name,
+                SUBSTRING(post.content, 1, :excerptLength))
+            FROM Post post
+            LEFT JOIN post.category category
+            WHERE post.id IN :ids
+    """)
+    List<PostSummary> findSummariesByIdIn(@Param("excerptLength") int excerptLength,
+                                          @Param("ids") Collection<UUID> ids);
+
+    /**
+     * Full-text search ranked by relevance, title matches weighing more than content matches.
+     * The document expression matches the GIN index declared in {@code db/migration/V3__query_indexes.sql}.
+     *
+     * Native, so the category cannot be join fetched: callers initialize it, {@link com.dauphine.blogger.models.Category}
+     * proxies are loaded in batches.
+     *
+     * @param query a {@code to_tsquery} expression, e.g. {@code 'spring:* & boot:*'}
+     */
+    @Query(value = """
+            SELECT post.*
+            FROM post post,
+                 to_tsquery('simple', :query) search_query
+            WHERE (setweight(to_tsvector('simple', coalesce(post.title, '')), 'A')
+                   || setweight(to_tsvector('simple', coalesce(post.content, '')), 'B')) @@ search_query
+            ORDER BY ts_rank(setweight(to_tsvector('simple', coalesce(post.title, '')), 'A')
+                             || setweight(to_tsvector('simple', coalesce(post.content, '')), 'B'), search_query) DESC,
+                     post.created_date DESC,
+                     post.id DESC
+            LIMIT :limit OFFSET :offset
+    """, nativeQuery = true)
+    List<Post> searchByTitleOrContent(@Param("query") String query,
+                                      @Param("limit") int limit,
+                                      @Param("offset") int offset);
+
     @Query("""
             SELECT post
             FROM Post post
-            WHERE UPPER(post.title) LIKE UPPER(CONCAT('%', :value, '%'))
-            OR UPPER(post.content) LIKE UPPER(CONCAT('%', :value, '%'))
+            LEFT JOIN FETCH post.category
+            ORDER BY post.createdDate DESC, post.id DESC
     """)
-    List<Post> findAllByTitleOrContentContains(@Param("value") String value);
+    List<Post> findNewest(Limit limit);
 
+    @Query("""
+            SELECT post
+            FROM Post post
+            LEFT JOIN FETCH post.category
+            WHERE (post.createdDate, post.id) < (:createdDate, :id)
+            ORDER BY post.createdDate DESC, post.id DESC
+    """)
+    List<Post> findNewestBefore(@Param("createdDate") LocalDateTime createdDate,
+                                @Param("id") UUID id,
+                                Limit limit);
+
+    @Query("""
+            SELECT post
+            FROM Post post
+            JOIN FETCH post.category category
+            WHERE category.id = :categoryId
+            ORDER BY post.createdDate DESC, post.id DESC
+    """)
+    List<Post> findNewestByCategoryId(@Param("categoryId") UUID categoryId, Limit limit);
+
+    @Query("""
+            SELECT post
+            FROM Post post
+            JOIN FETCH post.category category
+            WHERE category.id = :categoryId
+            AND (post.createdDate, post.id) < (:createdDate, :id)
+            ORDER BY post.createdDate DESC, post.id DESC
+    """)
+    List<Post> findNewestByCategoryIdBefore(@Param("categoryId") UUID categoryId,
+                                            @Param("createdDate") LocalDateTime createdDate,
+                                            @Param("id") UUID id,
+                                            Limit limit);
 
-}
\ No newline at end of file
+    @Query("""
+            SELECT new com.dauphine.blogger.dto.PostVersion(
+                post.version, post.updatedDate, category.version, category.updatedDate)
+            FROM Post post
+            LEFT JOIN post.category category
+            WHERE post.id = :id
+    """)
+    Optional<PostVersion> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Run before deleting the category: the database would otherwise clear the reference itself
+     * (ON DELETE SET NULL), leaving the version, the update date and therefore the entity tag and
+     * Last-Modified of the posts unchanged. As a bulk statement it also invalidates the cached posts
+     * and the cached query results over posts.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE Post post
+            SET post.category = NULL,
+                post.version = post.version + 1,
+                post.updatedDate = :updatedDate
+            WHERE post.category.id = :categoryId
+    """)
+    int detachFromCategory(@Param("categoryId") UUID categoryId, @Param("updatedDate") LocalDateTime updatedDate);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM Post post
+            WHERE post.id = :id
+    """)
+    int deleteByIdReturningCount(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM Post post
+            WHERE post.id = :id
+            AND post.version = :version
+    """)
+    int deleteByIdAndVersionReturningCount(@Param("id") UUID id, @Param("version") long version);
+}
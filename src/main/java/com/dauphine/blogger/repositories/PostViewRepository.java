@@ -0,0 +1,14 @@
+package com.dauphine.blogger.repositories;
+
+import com.dauphine.blogger.models.PostView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Transactional(readOnly = true)
+public interface PostViewRepository extends JpaRepository<PostView, UUID> {
+    List<PostView> findAllByOrderByViewsDesc(Limit limit);
+}
@@ -0,0 +1,55 @@
+package com.dauphine.blogger.repositories.reactive;
+
+import com.dauphine.blogger.models.Category;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of the read queries of {@link com.dauphine.blogger.repositories.CategoryRepository}.
+ */
+@Repository
+public class ReactiveCategoryRepository {
+
+    private static final String SELECT_CATEGORY = """
+            SELECT category.id, category.name, category.updated_date
+            FROM category category
+    """;
+
+    private final DatabaseClient client;
+
+    public ReactiveCategoryRepository(DatabaseClient client) {
+        this.client = client;
+    }
+
+    public Flux<Category> findAll() {
+        return client.sql(SELECT_CATEGORY)
+                .map(ReactiveCategoryRepository::toCategory)
+                .all();
+    }
+
+    public Mono<Category> findById(UUID id) {
+        return client.sql(SELECT_CATEGORY + "WHERE category.id = :id")
+                .bind("id", id)
+                .map(ReactiveCategoryRepository::toCategory)
+                .one();
+    }
+
+    public Flux<Category> findAllLikeName(String name) {
+        return client.sql(SELECT_CATEGORY + "WHERE UPPER(category.name) LIKE UPPER(CONCAT('%', :name, '%'))")
+                .bind("name", name)
+                .map(ReactiveCategoryRepository::toCategory)
+                .all();
+    }
+
+    private static Category toCategory(Readable row) {
+        Category category = new Category(row.get("id", UUID.class), row.get("name", String.class));
+        category.setUpdatedDate(row.get("updated_date", LocalDateTime.class));
+        return category;
+    }
+}
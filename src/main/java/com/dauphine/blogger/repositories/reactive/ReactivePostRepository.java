@@ -0,0 +1,128 @@
+package com.dauphine.blogger.repositories.reactive;
+
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.Post;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of the read queries of {@link com.dauphine.blogger.repositories.PostRepository},
+ * on the same tables. Rows are mapped to the JPA classes, detached, so both APIs serialize the same JSON;
+ * the category is read with a join in the same statement.
+ */
+@Repository
+public class ReactivePostRepository {
+
+    private static final String SELECT_POST = """
+            SELECT post.id, post.title, post.content, post.created_date, post.updated_date,
+                   category.id AS category_id, category.name AS category_name,
+                   category.updated_date AS category_updated_date
+            FROM post post
+            LEFT JOIN category category ON category.id = post.category_id
+    """;
+
+    private static final String NEWEST_FIRST = """
+            ORDER BY post.created_date DESC, post.id DESC
+            LIMIT :limit
+    """;
+
+    private final DatabaseClient client;
+
+    public ReactivePostRepository(DatabaseClient client) {
+        this.client = client;
+    }
+
+    public Mono<Post> findById(UUID id) {
+        return client.sql(SELECT_POST + "WHERE post.id = :id")
+                .bind("id", id)
+                .map(ReactivePostRepository::toPost)
+                .one();
+    }
+
+    public Flux<Post> findNewest(int limit) {
+        return client.sql(SELECT_POST + NEWEST_FIRST)
+                .bind("limit", limit)
+                .map(ReactivePostRepository::toPost)
+                .all();
+    }
+
+    public Flux<Post> findNewestBefore(LocalDateTime createdDate, UUID id, int limit) {
+        return client.sql(SELECT_POST + """
+                        WHERE (post.created_date, post.id) < (:createdDate, :id)
+                """ + NEWEST_FIRST)
+                .bind("createdDate", createdDate)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactivePostRepository::toPost)
+                .all();
+    }
+
+    public Flux<Post> findNewestByCategoryId(UUID categoryId, int limit) {
+        return client.sql(SELECT_POST + """
+                        WHERE post.category_id = :categoryId
+                """ + NEWEST_FIRST)
+                .bind("categoryId", categoryId)
+                .bind("limit", limit)
+                .map(ReactivePostRepository::toPost)
+                .all();
+    }
+
+    public Flux<Post> findNewestByCategoryIdBefore(UUID categoryId, LocalDateTime createdDate, UUID id, int limit) {
+        return client.sql(SELECT_POST + """
+                        WHERE post.category_id = :categoryId
+                        AND (post.created_date, post.id) < (:createdDate, :id)
+                """ + NEWEST_FIRST)
+                .bind("categoryId", categoryId)
+                .bind("createdDate", createdDate)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactivePostRepository::toPost)
+                .all();
+    }
+
+    /**
+     * Same ranking and index as {@link com.dauphine.blogger.repositories.PostRepository#searchByTitleOrContent}.
+     *
+     * @param query a {@code to_tsquery} expression, e.g. {@code 'spring:* & boot:*'}
+     */
+    public Flux<Post> searchByTitleOrContent(String query, int limit, int offset) {
+        return client.sql(SELECT_POST + """
+                        , to_tsquery('simple', :query) search_query
+                        WHERE (setweight(to_tsvector('simple', coalesce(post.title, '')), 'A')
+                               || setweight(to_tsvector('simple', coalesce(post.content, '')), 'B')) @@ search_query
+                        ORDER BY ts_rank(setweight(to_tsvector('simple', coalesce(post.title, '')), 'A')
+                                         || setweight(to_tsvector('simple', coalesce(post.content, '')), 'B'), search_query) DESC,
+                                 post.created_date DESC,
+                                 post.id DESC
+                        LIMIT :limit OFFSET :offset
+                """)
+                .bind("query", query)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactivePostRepository::toPost)
+                .all();
+    }
+
+    private static Post toPost(Readable row) {
+        Category category = null;
+        UUID categoryId = row.get("category_id", UUID.class);
+        if (categoryId != null) {
+            category = new Category(categoryId, row.get("category_name", String.class));
+            category.setUpdatedDate(row.get("category_updated_date", LocalDateTime.class));
+        }
+        Post post = new Post(
+                row.get("id", UUID.class),
+                row.get("title", String.class),
+                row.get("content", String.class),
+                row.get("created_date", LocalDateTime.class),
+                category);
+        post.setUpdatedDate(row.get("updated_date", LocalDateTime.class));
+        return post;
+    }
+}
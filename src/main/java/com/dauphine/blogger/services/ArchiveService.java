@@ -0,0 +1,13 @@
+package com.dauphine.blogger.services;
+
+import com.dauphine.blogger.dto.ArchiveBucket;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchiveService {
+    List<ArchiveBucket> getMonthlyArchive(UUID categoryId, LocalDate from, LocalDate to);
+    List<ArchiveBucket> getDailyArchive(UUID categoryId, LocalDate from, LocalDate to);
+    void rebuild();
+}
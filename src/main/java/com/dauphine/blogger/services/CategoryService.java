@@ -1,6 +1,8 @@
 package com.dauphine.blogger.services;
 
 
+import com.dauphine.blogger.dto.CacheStatistics;
+import com.dauphine.blogger.dto.CategorySummary;
 import com.dauphine.blogger.models.Category;
 
 import java.util.List;
@@ -8,10 +10,12 @@ import java.util.UUID;
 
 public interface CategoryService {
     List<Category> getAll();
+    List<CategorySummary> getSummaries();
     Category getById(UUID id);
     Category create(String name);
-    Category update(UUID id, String name);
-    boolean deleteById(UUID id);
+    Category update(UUID id, String name, Long expectedVersion);
+    boolean deleteById(UUID id, Long expectedVersion);
     boolean existsByName(String name);
     List<Category> getAllLikeName(String name);
+    CacheStatistics getCacheStatistics();
 }
\ No newline at end of file
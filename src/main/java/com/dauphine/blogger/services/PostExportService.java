@@ -0,0 +1,19 @@
+package com.dauphine.blogger.services;
+
+import com.dauphine.blogger.models.Post;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface PostExportService {
+    /**
+     * Streams every post matching the optional filters, oldest first, to {@code sink}.
+     * Posts are detached once handed over and must not be retained by the sink.
+     *
+     * @param categoryId only posts of this category, or all when {@code null}; existence is not checked
+     * @param from       inclusive lower bound on the creation date, or unbounded when {@code null}
+     * @param to         exclusive upper bound on the creation date, or unbounded when {@code null}
+     */
+    void export(UUID categoryId, LocalDateTime from, LocalDateTime to, Consumer<Post> sink);
+}
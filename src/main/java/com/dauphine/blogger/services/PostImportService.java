@@ -0,0 +1,15 @@
+package com.dauphine.blogger.services;
+
+import com.dauphine.blogger.dto.ImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface PostImportService {
+    /**
+     * Reads one {@code CreationPostRequest} per line and reports one result per non-blank line,
+     * in input order, as soon as the batch containing it is written.
+     */
+    void importPosts(InputStream ndjson, Consumer<ImportResult> results) throws IOException;
+}
@@ -1,5 +1,9 @@
 package com.dauphine.blogger.services;
 
+import com.dauphine.blogger.dto.PostBatch;
+import com.dauphine.blogger.dto.PostPage;
+import com.dauphine.blogger.dto.PostSummary;
+import com.dauphine.blogger.dto.PostVersion;
 import com.dauphine.blogger.models.Post;
 import java.util.List;
 import java.util.UUID;
@@ -7,9 +11,15 @@ import java.util.UUID;
 public interface PostService {
     List<Post> getAllByCategoryId(UUID categoryId);
     List<Post> getAll();
+    PostPage<Post> getPage(String cursor, int limit);
+    PostPage<Post> getPageByCategoryId(UUID categoryId, String cursor, int limit);
+    PostPage<PostSummary> getSummaryPage(String cursor, int limit);
+    PostPage<PostSummary> getSummaryPageByCategoryId(UUID categoryId, String cursor, int limit);
     Post getById(UUID id);
+    PostBatch getByIds(List<UUID> ids);
+    PostVersion getVersion(UUID id);
     Post create(String title, String content, UUID categoryId);
-    Post update(UUID id, String title, String content);
-    List<Post> getAllByTitleOrContentContains(String name);
-    boolean deleteById(UUID id);
+    Post update(UUID id, String title, String content, Long expectedVersion);
+    PostPage<Post> getAllByTitleOrContentContains(String value, String cursor, int limit);
+    boolean deleteById(UUID id, Long expectedVersion);
 }
\ No newline at end of file
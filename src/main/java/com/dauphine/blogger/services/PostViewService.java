@@ -0,0 +1,12 @@
+package com.dauphine.blogger.services;
+
+import com.dauphine.blogger.dto.TrendingPost;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PostViewService {
+    void recordView(UUID postId);
+    List<TrendingPost> getTrending(int limit);
+    void flush();
+}
@@ -0,0 +1,13 @@
+package com.dauphine.blogger.services;
+
+import com.dauphine.blogger.models.Category;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveCategoryService {
+    Flux<Category> getAll();
+    Mono<Category> getById(UUID id);
+    Flux<Category> getAllLikeName(String name);
+}
@@ -0,0 +1,14 @@
+package com.dauphine.blogger.services;
+
+import com.dauphine.blogger.models.Post;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactivePostService {
+    Flux<Post> getStream(String cursor, int limit);
+    Flux<Post> getStreamByCategoryId(UUID categoryId, String cursor, int limit);
+    Mono<Post> getById(UUID id);
+    Flux<Post> getAllByTitleOrContentContains(String value, String cursor, int limit);
+}
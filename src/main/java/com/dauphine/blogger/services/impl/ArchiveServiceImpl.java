@@ -0,0 +1,103 @@
+package com.dauphine.blogger.services.impl;
+
+import com.dauphine.blogger.dto.ArchiveBucket;
+import com.dauphine.blogger.models.PostArchive;
+import com.dauphine.blogger.repositories.PostArchiveRepository;
+import com.dauphine.blogger.services.ArchiveService;
+import com.dauphine.blogger.services.CategoryService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Posts per day and per month, read from the post_archive rollup kept up to date by PostAggregates:
+ * one primary key range scan over at most one row per day, whatever the number of posts.
+ */
+@Service
+@Timed("blogger.service")
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveServiceImpl.class);
+
+    // Posts are dated by the server clock, none can be older
+    private static final LocalDate FIRST_DAY = LocalDate.EPOCH;
+
+    private final PostArchiveRepository archiveRepository;
+    private final CategoryService categoryService;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean lockPostsOnRebuild;
+
+    public ArchiveServiceImpl(PostArchiveRepository archiveRepository,
+                              CategoryService categoryService,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${blogger.archive.rebuild-lock-posts:true}") boolean lockPostsOnRebuild) {
+        this.archiveRepository = archiveRepository;
+        this.categoryService = categoryService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.lockPostsOnRebuild = lockPostsOnRebuild;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArchiveBucket> getMonthlyArchive(UUID categoryId, LocalDate from, LocalDate to) {
+        // Months are summed from the days: a few thousand rows at most, grouped in memory
+        Map<LocalDate, Long> months = new LinkedHashMap<>();
+        for (PostArchive day : findDays(categoryId, from, to)) {
+            months.merge(day.getCreatedOn().withDayOfMonth(1), day.getPostCount(), Long::sum);
+        }
+        return months.entrySet().stream()
+                .map(month -> new ArchiveBucket(month.getKey(), month.getValue()))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArchiveBucket> getDailyArchive(UUID categoryId, LocalDate from, LocalDate to) {
+        return findDays(categoryId, from, to).stream()
+                .map(day -> new ArchiveBucket(day.getCreatedOn(), day.getPostCount()))
+                .toList();
+    }
+
+    /**
+     * Recomputes the rollup from the posts, e.g. after a restore or a manual fix of the post table.
+     * Post writes wait for it to commit: otherwise one that commits while the counts are taken would
+     * be counted twice or not at all, as its aggregate update lands on rows being replaced.
+     */
+    @Override
+    @Transactional
+    public void rebuild() {
+        if (lockPostsOnRebuild) {
+            // Conflicts with every insert, update and delete on post but not with reads; held until
+            // commit. Through JdbcTemplate, a native query would make Hibernate drop every cache region
+            jdbcTemplate.execute("LOCK TABLE post IN SHARE MODE");
+        }
+        archiveRepository.deleteAllRows();
+        int days = archiveRepository.insertTotalsFromPosts(PostArchive.ALL_CATEGORIES);
+        int categoryDays = archiveRepository.insertCategoryCountsFromPosts();
+        logger.info("[ARCHIVE] Rebuilt {} days and {} category days", days, categoryDays);
+    }
+
+    /**
+     * @param from first day included, the first post when {@code null}
+     * @param to   first day excluded, tomorrow when {@code null}
+     */
+    private List<PostArchive> findDays(UUID categoryId, LocalDate from, LocalDate to) {
+        if (categoryId != null) {
+            categoryService.getById(categoryId); // Will throw CategoryNotFoundException if not found
+        }
+        return archiveRepository.findDays(
+                categoryId == null ? PostArchive.ALL_CATEGORIES : categoryId,
+                from == null ? FIRST_DAY : from,
+                to == null ? LocalDate.now().plusDays(1) : to);
+    }
+}
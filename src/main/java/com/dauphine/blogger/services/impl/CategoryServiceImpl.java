@@ -1,71 +1,149 @@
 package com.dauphine.blogger.services.impl;
 
 
+import com.dauphine.blogger.cache.CategoryCache;
+import com.dauphine.blogger.cache.ResponseCache;
+import com.dauphine.blogger.dto.CacheStatistics;
+import com.dauphine.blogger.dto.CategorySummary;
+import com.dauphine.blogger.events.EntityChange;
 import com.dauphine.blogger.exceptions.CategoryNameAlreadyExistsException;
 import com.dauphine.blogger.exceptions.CategoryNameNotFoundException;
 import com.dauphine.blogger.exceptions.CategoryNotFoundException;
+import com.dauphine.blogger.exceptions.PreconditionFailedException;
 import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.CategoryStats;
 import com.dauphine.blogger.repositories.CategoryRepository;
+import com.dauphine.blogger.repositories.CategoryStatsRepository;
+import com.dauphine.blogger.repositories.PostRepository;
 import com.dauphine.blogger.services.CategoryService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
 @Service
+@Timed("blogger.service")
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
-
-    public CategoryServiceImpl(CategoryRepository repository) {
+    private final CategoryStatsRepository statsRepository;
+    private final PostRepository postRepository;
+    private final CategoryCache cache;
+    private final ResponseCache responseCache;
+    private final ApplicationEventPublisher events;
+
+    public CategoryServiceImpl(CategoryRepository repository,
+                               CategoryStatsRepository statsRepository,
+                               PostRepository postRepository,
+                               CategoryCache cache,
+                               ResponseCache responseCache,
+                               ApplicationEventPublisher events) {
         this.categoryRepository = repository;
+        this.statsRepository = statsRepository;
+        this.postRepository = postRepository;
+        this.cache = cache;
+        this.responseCache = responseCache;
+        this.events = events;
     }
 
     @Override
     public List<Category> getAll() {
-        return categoryRepository.findAll();
+        return cache.getAll(categoryRepository::findAll);
+    }
+
+    /**
+     * One read of the maintained counters, whatever the number of posts.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategorySummary> getSummaries() {
+        return statsRepository.findAllSummaries();
     }
 
     @Override
     public Category getById(UUID id) {
-        return categoryRepository.findById(id)
-                .orElseThrow(() -> new CategoryNotFoundException(id));
+        Category category = cache.getById(id, key -> categoryRepository.findById(key).orElse(null));
+        if (category == null) {
+            throw new CategoryNotFoundException(id);
+        }
+        return category;
     }
 
     @Override
+    @Transactional
     public Category create(String name) {
-        if (existsByName(name)) {
-            throw new CategoryNameAlreadyExistsException(name);
+        // No existence check first: it would race with concurrent creates, the unique index does not
+        Category category;
+        try {
+            // The id is generated on persist, see UuidV7; flushed so the index is checked here
+            category = categoryRepository.saveAndFlush(new Category(null, name));
+        } catch (DataIntegrityViolationException e) {
+            throw translateNameViolation(e, name);
         }
-
-        Category category = new Category(UUID.randomUUID(), name);
-        return categoryRepository.save(category);
+        // Posts only ever update their category's counters, the row must exist first
+        statsRepository.save(new CategoryStats(category.getId()));
+        cache.put(category);
+        responseCache.evictCategories();
+        events.publishEvent(new EntityChange(EntityChange.CATEGORY, EntityChange.CREATED, category.getId()));
+        return category;
     }
 
     @Override
-    public Category update(UUID id, String name) {
-        Category category = getById(id); // Will throw CategoryIdNotFoundException if not found
-
-        // Check if another category with the same name already exists
-        if (!category.getName().equalsIgnoreCase(name) && existsByName(name)) {
-            throw new CategoryNameAlreadyExistsException(name);
+    @Transactional
+    public Category update(UUID id, String name, Long expectedVersion) {
+        // Load from the repository, never mutate the cached instance before the write succeeds
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new CategoryNotFoundException(id));
+        if (expectedVersion != null && category.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException(id);
         }
 
+        // The entity is managed: no SELECT from merge, only the UPDATE, flushed before touching the cache
+        // and checked for name uniqueness by the index
+        String previousName = category.getName();
         category.setName(name);
-        return categoryRepository.save(category);
+        Category updated;
+        try {
+            updated = categoryRepository.saveAndFlush(category);
+        } catch (DataIntegrityViolationException e) {
+            throw translateNameViolation(e, name);
+        }
+        cache.rename(previousName, updated);
+        responseCache.evictCategories();
+        events.publishEvent(new EntityChange(EntityChange.CATEGORY, EntityChange.UPDATED, id));
+        return updated;
     }
 
     @Override
-    public boolean deleteById(UUID id) {
-        if (!categoryRepository.existsById(id)) {
+    @Transactional
+    public boolean deleteById(UUID id, Long expectedVersion) {
+        // Rolled back with the transaction if the category turns out to be missing or stale
+        postRepository.detachFromCategory(id, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        int deleted = expectedVersion == null
+                ? categoryRepository.deleteByIdReturningCount(id)
+                : categoryRepository.deleteByIdAndVersionReturningCount(id, expectedVersion);
+        if (deleted == 0) {
+            // Only the failure path pays for telling a stale version from a missing category
+            if (expectedVersion != null && categoryRepository.existsById(id)) {
+                throw new PreconditionFailedException(id);
+            }
             throw new CategoryNotFoundException(id);
         }
 
-        categoryRepository.deleteById(id);
+        cache.remove(id);
+        responseCache.evictCategories();
+        events.publishEvent(new EntityChange(EntityChange.CATEGORY, EntityChange.DELETED, id));
         return true;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Category> getAllLikeName(String name) {
         List<Category> categories = categoryRepository.findAllLikeName(name);
         if (categories.isEmpty()) {
@@ -76,6 +154,15 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public boolean existsByName(String name) {
-        return categoryRepository.existsByName(name);
+        return cache.existsByName(name, categoryRepository::existsByName);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return cache.getStatistics();
+    }
+
+    private static RuntimeException translateNameViolation(DataIntegrityViolationException e, String name) {
+        return CategoryNameAlreadyExistsException.isCause(e) ? new CategoryNameAlreadyExistsException(name) : e;
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.dauphine.blogger.services.impl;
+
+import com.dauphine.blogger.models.PostArchive;
+import com.dauphine.blogger.repositories.CategoryStatsRepository;
+import com.dauphine.blogger.repositories.PostArchiveRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Keeps the maintained aggregates over posts, category counters and archive days, in step with
+ * the posts. Called from within the transaction that writes the posts, by every write path.
+ */
+@Component
+class PostAggregates {
+
+    private final CategoryStatsRepository categoryStatsRepository;
+    private final PostArchiveRepository archiveRepository;
+
+    PostAggregates(CategoryStatsRepository categoryStatsRepository, PostArchiveRepository archiveRepository) {
+        this.categoryStatsRepository = categoryStatsRepository;
+        this.archiveRepository = archiveRepository;
+    }
+
+    /**
+     * @param categoryId {@code null} for a post without a category, it only counts in the totals
+     */
+    void postCreated(UUID categoryId, LocalDateTime createdDate) {
+        postsCreated(categoryId == null ? Map.of() : Map.of(categoryId, 1L), 1, createdDate);
+    }
+
+    /**
+     * Locks the rows in one order on every path, or two writers could each hold a row the other
+     * waits for: every counter row by category id, then the archive totals, then the archive rows
+     * by category id. The totals id sorts below any category id in PostgreSQL, which keeps the
+     * single {@code IN} update of postDeleted in the same order.
+     *
+     * @param countsByCategory posts created per category, without those that have no category
+     * @param total            every post created, with or without a category
+     */
+    void postsCreated(Map<UUID, Long> countsByCategory, long total, LocalDateTime createdDate) {
+        SortedMap<UUID, Long> sorted = new TreeMap<>(countsByCategory);
+        sorted.forEach((categoryId, count) -> categoryStatsRepository.addPosts(categoryId, count, createdDate));
+        archiveRepository.addPosts(PostArchive.ALL_CATEGORIES, createdDate.toLocalDate(), total);
+        sorted.forEach((categoryId, count) -> archiveRepository.addPosts(categoryId, createdDate.toLocalDate(), count));
+    }
+
+    /**
+     * Must run after the post is deleted, see CategoryStatsRepository#removePost.
+     */
+    void postDeleted(UUID categoryId, LocalDateTime createdDate) {
+        if (categoryId == null) {
+            archiveRepository.removePost(List.of(PostArchive.ALL_CATEGORIES), createdDate.toLocalDate());
+            return;
+        }
+        categoryStatsRepository.removePost(categoryId, createdDate);
+        archiveRepository.removePost(List.of(PostArchive.ALL_CATEGORIES, categoryId), createdDate.toLocalDate());
+    }
+}
@@ -0,0 +1,191 @@
+package com.dauphine.blogger.services.impl;
+
+import com.dauphine.blogger.cache.ResponseCache;
+import com.dauphine.blogger.dto.CreationPostRequest;
+import com.dauphine.blogger.dto.ImportResult;
+import com.dauphine.blogger.events.EntityChange;
+import com.dauphine.blogger.exceptions.CategoryNotFoundException;
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.UuidV7Generator;
+import com.dauphine.blogger.repositories.CategoryRepository;
+import com.dauphine.blogger.services.PostImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+public class PostImportServiceImpl implements PostImportService {
+
+    private static final String INSERT_POST = """
+            INSERT INTO post (id, title, content, created_date, category_id, updated_date, version)
+            VALUES (?, ?, ?, ?, ?, ?, 0)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryRepository categoryRepository;
+    private final PostAggregates aggregates;
+    private final ApplicationEventPublisher events;
+    private final Cache secondLevelCache;
+    private final ResponseCache responseCache;
+    private final ObjectReader requestReader;
+    private final int batchSize;
+
+    public PostImportServiceImpl(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 CategoryRepository categoryRepository,
+                                 PostAggregates aggregates,
+                                 ApplicationEventPublisher events,
+                                 EntityManagerFactory entityManagerFactory,
+                                 ResponseCache responseCache,
+                                 ObjectMapper objectMapper,
+                                 @Value("${blogger.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.categoryRepository = categoryRepository;
+        this.aggregates = aggregates;
+        this.events = events;
+        this.secondLevelCache = entityManagerFactory.getCache().unwrap(Cache.class);
+        this.responseCache = responseCache;
+        this.requestReader = objectMapper.readerFor(CreationPostRequest.class);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void importPosts(InputStream ndjson, Consumer<ImportResult> results) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        List<Line> batch = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            lineNumber++;
+            if (text.isBlank()) {
+                continue;
+            }
+            batch.add(new Line(lineNumber, text));
+            if (batch.size() == batchSize) {
+                writeBatch(batch, results);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, results);
+        }
+    }
+
+    /**
+     * Parses and validates a batch, checks all its categories with one query and inserts the
+     * valid records with a single JDBC batch in its own transaction.
+     */
+    private void writeBatch(List<Line> batch, Consumer<ImportResult> results) {
+        List<ImportResult> outcomes = new ArrayList<>(batch.size());
+        List<Row> rows = new ArrayList<>(batch.size());
+        List<CreationPostRequest> requests = new ArrayList<>(batch.size());
+
+        for (Line line : batch) {
+            try {
+                CreationPostRequest request = requestReader.readValue(line.text());
+                PostServiceImpl.validateTitleAndContent(request.getTitle(), request.getContent());
+                requests.add(request);
+                outcomes.add(null);
+            } catch (JsonProcessingException e) {
+                requests.add(null);
+                outcomes.add(ImportResult.failed(line.number(), "Malformed JSON: " + e.getOriginalMessage()));
+            } catch (IllegalArgumentException e) {
+                requests.add(null);
+                outcomes.add(ImportResult.failed(line.number(), e.getMessage()));
+            }
+        }
+
+        Set<UUID> existingCategories = existingCategoryIds(requests);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        for (int i = 0; i < batch.size(); i++) {
+            CreationPostRequest request = requests.get(i);
+            if (request == null) {
+                continue;
+            }
+            long number = batch.get(i).number();
+            UUID categoryId = request.getCategoryId();
+            if (categoryId != null && !existingCategories.contains(categoryId)) {
+                outcomes.set(i, ImportResult.failed(number, new CategoryNotFoundException(categoryId).getMessage()));
+                continue;
+            }
+            UUID id = UuidV7Generator.next();
+            rows.add(new Row(id, request.getTitle(), request.getContent(), now, categoryId));
+            outcomes.set(i, ImportResult.created(number, id));
+        }
+
+        if (!rows.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_POST, rows, rows.size(), (statement, row) -> {
+                    statement.setObject(1, row.id());
+                    statement.setString(2, row.title());
+                    statement.setString(3, row.content());
+                    statement.setTimestamp(4, Timestamp.valueOf(row.createdDate()));
+                    statement.setObject(5, row.categoryId());
+                    statement.setTimestamp(6, Timestamp.valueOf(row.createdDate()));
+                });
+                // One aggregate update per category of the batch, committed with the posts; the
+                // posts without a category only count in the totals
+                aggregates.postsCreated(rows.stream()
+                        .filter(row -> row.categoryId() != null)
+                        .collect(Collectors.groupingBy(Row::categoryId, Collectors.counting())),
+                        rows.size(), now);
+                // Delivered to the change feed once the batch commits
+                rows.forEach(row -> events.publishEvent(
+                        new EntityChange(EntityChange.POST, EntityChange.CREATED, row.id())));
+            });
+            // Hibernate did not see these inserts, cached query results over post are now stale
+            secondLevelCache.evictQueryRegions();
+            responseCache.evictFeed();
+        }
+
+        outcomes.forEach(results);
+    }
+
+    private Set<UUID> existingCategoryIds(List<CreationPostRequest> requests) {
+        Set<UUID> ids = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreationPostRequest::getCategoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> existing = new HashSet<>();
+        for (Category category : categoryRepository.findAllById(ids)) {
+            existing.add(category.getId());
+        }
+        return existing;
+    }
+
+    private record Line(long number, String text) {
+    }
+
+    private record Row(UUID id, String title, String content, LocalDateTime createdDate, UUID categoryId) {
+    }
+}
@@ -1,101 +1,327 @@
 package com.dauphine.blogger.services.impl;
 
-import com.dauphine.blogger.exceptions.CategoryNotFoundException;
+import com.dauphine.blogger.cache.ResponseCache;
+import com.dauphine.blogger.dto.PostBatch;
+import com.dauphine.blogger.dto.PostCursor;
+import com.dauphine.blogger.dto.PostPage;
+import com.dauphine.blogger.dto.PostSummary;
+import com.dauphine.blogger.dto.PostVersion;
+import com.dauphine.blogger.dto.SearchCursor;
+import com.dauphine.blogger.events.EntityChange;
 import com.dauphine.blogger.exceptions.PostNotFoundException;
+import com.dauphine.blogger.exceptions.PreconditionFailedException;
+import com.dauphine.blogger.exceptions.TooManyIdsException;
 import com.dauphine.blogger.models.Category;
 import com.dauphine.blogger.models.Post;
 import com.dauphine.blogger.repositories.CategoryRepository;
 import com.dauphine.blogger.repositories.PostRepository;
+import com.dauphine.blogger.services.CategoryService;
 import com.dauphine.blogger.services.PostService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("blogger.service")
 public class PostServiceImpl implements PostService {
 
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final String SEARCH_TERM_SEPARATOR = "[^\\p{L}\\p{N}]+";
+
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
+    private final PostAggregates aggregates;
+    private final CategoryService categoryService;
+    private final ResponseCache responseCache;
+    private final Cache secondLevelCache;
+    private final ApplicationEventPublisher events;
 
     @Autowired
-    public PostServiceImpl(PostRepository postRepository, CategoryRepository categoryRepository) {
+    public PostServiceImpl(PostRepository postRepository,
+                           CategoryRepository categoryRepository,
+                           PostAggregates aggregates,
+                           CategoryService categoryService,
+                           ResponseCache responseCache,
+                           EntityManagerFactory entityManagerFactory,
+                           ApplicationEventPublisher events) {
         this.postRepository = postRepository;
         this.categoryRepository = categoryRepository;
+        this.aggregates = aggregates;
+        this.categoryService = categoryService;
+        this.responseCache = responseCache;
+        this.secondLevelCache = entityManagerFactory.getCache();
+        this.events = events;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Post> getAllByCategoryId(UUID categoryId) {
-        // Check if category exists
-        if (!categoryRepository.existsById(categoryId)) {
-            throw new CategoryNotFoundException(categoryId);
-        }
-        return postRepository.findAllByCategoryId(categoryId);
+        categoryService.getById(categoryId); // Will throw CategoryNotFoundException if not found
+        // A query cache hit rebuilds the posts from the second-level cache, where the category is only an id
+        return initializeCategories(postRepository.findAllByCategoryId(categoryId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Post> getAll() {
         return postRepository.findAll();
     }
 
     @Override
-    public Post getById(UUID id) {
-        return postRepository.findById(id)
-                .orElseThrow(() -> new PostNotFoundException(id));
+    @Transactional(readOnly = true)
+    public PostPage<Post> getPage(String cursor, int limit) {
+        int size = PostPage.clampSize(limit);
+        // Fetch one extra row to know whether a next page exists
+        Limit window = Limit.of(size + 1);
+        if (cursor == null || cursor.isBlank()) {
+            return PostPage.of(postRepository.findNewest(window), size, PostCursor::of);
+        }
+        PostCursor position = PostCursor.decode(cursor);
+        return PostPage.of(
+                postRepository.findNewestBefore(position.getCreatedDate(), position.getId(), window),
+                size, PostCursor::of);
     }
 
     @Override
-    public Post create(String title, String content, UUID categoryId) {
-        // Validate title and content
-        if (title == null || title.isBlank()) {
-            throw new IllegalArgumentException("Post title cannot be empty");
+    @Transactional(readOnly = true)
+    public PostPage<Post> getPageByCategoryId(UUID categoryId, String cursor, int limit) {
+        categoryService.getById(categoryId); // Will throw CategoryNotFoundException if not found
+        int size = PostPage.clampSize(limit);
+        Limit window = Limit.of(size + 1);
+        if (cursor == null || cursor.isBlank()) {
+            return PostPage.of(postRepository.findNewestByCategoryId(categoryId, window), size, PostCursor::of);
         }
+        PostCursor position = PostCursor.decode(cursor);
+        return PostPage.of(
+                postRepository.findNewestByCategoryIdBefore(
+                        categoryId, position.getCreatedDate(), position.getId(), window),
+                size, PostCursor::of);
+    }
 
-        if (content == null || content.isBlank()) {
-            throw new IllegalArgumentException("Post content cannot be empty");
+    @Override
+    @Transactional(readOnly = true)
+    public PostPage<PostSummary> getSummaryPage(String cursor, int limit) {
+        int size = PostPage.clampSize(limit);
+        Limit window = Limit.of(size + 1);
+        if (cursor == null || cursor.isBlank()) {
+            return PostPage.of(
+                    postRepository.findNewestSummaries(PostSummary.EXCERPT_LENGTH, window),
+                    size, PostCursor::of);
         }
+        PostCursor position = PostCursor.decode(cursor);
+        return PostPage.of(
+                postRepository.findNewestSummariesBefore(
+                        PostSummary.EXCERPT_LENGTH, position.getCreatedDate(), position.getId(), window),
+                size, PostCursor::of);
+    }
 
-        Category category = null;
-        if (categoryId != null) {
-            category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new CategoryNotFoundException(categoryId));
+    @Override
+    @Transactional(readOnly = true)
+    public PostPage<PostSummary> getSummaryPageByCategoryId(UUID categoryId, String cursor, int limit) {
+        categoryService.getById(categoryId); // Will throw CategoryNotFoundException if not found
+        int size = PostPage.clampSize(limit);
+        Limit window = Limit.of(size + 1);
+        if (cursor == null || cursor.isBlank()) {
+            return PostPage.of(
+                    postRepository.findNewestSummariesByCategoryId(PostSummary.EXCERPT_LENGTH, categoryId, window),
+                    size, PostCursor::of);
         }
+        PostCursor position = PostCursor.decode(cursor);
+        return PostPage.of(
+                postRepository.findNewestSummariesByCategoryIdBefore(
+                        PostSummary.EXCERPT_LENGTH, categoryId, position.getCreatedDate(), position.getId(), window),
+                size, PostCursor::of);
+    }
 
-        Post post = new Post(UUID.randomUUID(), title, content, LocalDateTime.now(), category);
-        return postRepository.save(post);
+    @Override
+    @Transactional(readOnly = true)
+    public Post getById(UUID id) {
+        Post post = postRepository.findById(id)
+                .orElseThrow(() -> new PostNotFoundException(id));
+        // Usually served by the second-level cache, like the post itself
+        Hibernate.initialize(post.getCategory());
+        return post;
     }
 
+    /**
+     * Posts held by the second-level cache are read from it, the others with a single {@code IN}
+     * query. Duplicated ids are returned once.
+     */
     @Override
-    public Post update(UUID id, String title, String content) {
-        // Validate title and content
-        if (title == null || title.isBlank()) {
-            throw new IllegalArgumentException("Post title cannot be empty");
+    @Transactional(readOnly = true)
+    public PostBatch getByIds(List<UUID> ids) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new TooManyIdsException(requested.size(), MAX_BATCH_SIZE);
         }
 
-        if (content == null || content.isBlank()) {
-            throw new IllegalArgumentException("Post content cannot be empty");
+        Map<UUID, Post> found = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID id : requested) {
+            if (secondLevelCache.contains(Post.class, id)) {
+                // Falls back to a select if the entry was evicted in between
+                postRepository.findById(id).ifPresent(post -> found.put(id, post));
+            } else {
+                misses.add(id);
+            }
         }
+        if (!misses.isEmpty()) {
+            postRepository.findAllById(misses).forEach(post -> found.put(post.getId(), post));
+        }
+
+        List<Post> items = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : requested) {
+            Post post = found.get(id);
+            if (post == null) {
+                missing.add(id);
+            } else {
+                items.add(post);
+            }
+        }
+        return new PostBatch(initializeCategories(items), missing);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PostVersion getVersion(UUID id) {
+        return postRepository.findVersionById(id)
+                .orElseThrow(() -> new PostNotFoundException(id));
+    }
+
+    @Override
+    @Transactional
+    public Post create(String title, String content, UUID categoryId) {
+        validateTitleAndContent(title, content);
+
+        // Validated against the category cache, usually without touching the database
+        Category category = categoryId == null ? null : categoryService.getById(categoryId);
+
+        // Persist against a reference proxy: a detached Category with an assigned id would make
+        // Hibernate SELECT it to decide whether it is transient. Post is Persistable, so save()
+        // persists directly instead of merging, and the INSERT is the only statement.
+        Category reference = categoryId == null ? null : categoryRepository.getReferenceById(categoryId);
+        // The id is generated on persist, see UuidV7
+        Post post = postRepository.save(
+                new Post(null, title, content, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), reference));
+        aggregates.postCreated(categoryId, post.getCreatedDate());
+
+        // Hand the initialized instance to the caller; same id, so dirty checking sees no change
+        post.setCategory(category);
+        responseCache.evictPost(post.getId());
+        events.publishEvent(new EntityChange(EntityChange.POST, EntityChange.CREATED, post.getId()));
+        return post;
+    }
+
+    @Override
+    @Transactional
+    public Post update(UUID id, String title, String content, Long expectedVersion) {
+        validateTitleAndContent(title, content);
+
+        // Managed within the transaction: dirty checking issues the UPDATE, no merge SELECT
         Post post = getById(id); // Will throw PostIdNotFoundException if not found
+        if (expectedVersion != null && post.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException(id);
+        }
+        // @Version still guards against a concurrent write between this check and the commit
         post.setTitle(title);
         post.setContent(content);
-        return postRepository.save(post);
+        responseCache.evictPost(id);
+        events.publishEvent(new EntityChange(EntityChange.POST, EntityChange.UPDATED, id));
+        return post;
     }
 
     @Override
-    public boolean deleteById(UUID id) {
-        if (!postRepository.existsById(id)) {
+    @Transactional
+    public boolean deleteById(UUID id, Long expectedVersion) {
+        // Usually served by the second-level cache; tells which aggregates to decrement
+        Post post = postRepository.findById(id)
+                .orElseThrow(() -> new PostNotFoundException(id));
+
+        int deleted = expectedVersion == null
+                ? postRepository.deleteByIdReturningCount(id)
+                : postRepository.deleteByIdAndVersionReturningCount(id, expectedVersion);
+        if (deleted == 0) {
+            // Only the failure path pays for telling a stale version from a missing post
+            if (expectedVersion != null && postRepository.existsById(id)) {
+                throw new PreconditionFailedException(id);
+            }
             throw new PostNotFoundException(id);
         }
 
-        postRepository.deleteById(id);
+        // Reading the id of the lazy category does not initialize it
+        aggregates.postDeleted(post.getCategory() == null ? null : post.getCategory().getId(), post.getCreatedDate());
+        responseCache.evictPost(id);
+        events.publishEvent(new EntityChange(EntityChange.POST, EntityChange.DELETED, id));
         return true;
     }
 
     @Override
-    public List<Post> getAllByTitleOrContentContains(String value) {
-        return postRepository.findAllByTitleOrContentContains(value);
+    @Transactional(readOnly = true)
+    public PostPage<Post> getAllByTitleOrContentContains(String value, String cursor, int limit) {
+        String query = toPrefixQuery(value);
+        if (query.isEmpty()) {
+            return new PostPage<>(List.of(), null);
+        }
+        int size = PostPage.clampSize(limit);
+        int offset = cursor == null || cursor.isBlank() ? 0 : SearchCursor.decode(cursor).getOffset();
+        // Fetch one extra row to know whether a next page exists
+        List<Post> window = initializeCategories(postRepository.searchByTitleOrContent(query, size + 1, offset));
+        if (window.size() <= size) {
+            return new PostPage<>(window, null);
+        }
+        return new PostPage<>(window.subList(0, size), new SearchCursor(offset + size).encode());
+    }
+
+    /**
+     * Rules shared by every write path, including the bulk import.
+     */
+    static void validateTitleAndContent(String title, String content) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("Post title cannot be empty");
+        }
+
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("Post content cannot be empty");
+        }
+    }
+
+    /**
+     * Initializes lazy categories before the session closes. The first one loads the others
+     * with it in one batch, see Category.
+     */
+    private static List<Post> initializeCategories(List<Post> posts) {
+        posts.forEach(post -> Hibernate.initialize(post.getCategory()));
+        return posts;
+    }
+
+    /**
+     * Turns free user input into a tsquery where every term must match as a prefix,
+     * dropping punctuation so the input can never produce a tsquery syntax error.
+     */
+    static String toPrefixQuery(String value) {
+        return Arrays.stream(value.toLowerCase(Locale.ROOT).split(SEARCH_TERM_SEPARATOR))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
     }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.dauphine.blogger.services.impl;
+
+import com.dauphine.blogger.dto.PostSummary;
+import com.dauphine.blogger.dto.TrendingPost;
+import com.dauphine.blogger.models.PostView;
+import com.dauphine.blogger.repositories.PostRepository;
+import com.dauphine.blogger.repositories.PostViewRepository;
+import com.dauphine.blogger.services.PostViewService;
+import com.dauphine.blogger.views.ViewCounter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind view counts: reads only bump an in-memory counter, a scheduled flush upserts the
+ * deltas with one statement and refreshes the "most read" ranking, which is served from memory.
+ */
+@Service
+public class PostViewServiceImpl implements PostViewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostViewServiceImpl.class);
+
+    // One round trip for the whole batch; posts deleted since their views were counted are skipped
+    private static final String UPSERT_VIEWS = """
+            INSERT INTO post_view (post_id, views)
+            SELECT delta.post_id, delta.views
+            FROM unnest(?::uuid[], ?::bigint[]) AS delta (post_id, views)
+            WHERE EXISTS (SELECT 1 FROM post WHERE post.id = delta.post_id)
+            ON CONFLICT (post_id) DO UPDATE SET views = post_view.views + EXCLUDED.views
+            RETURNING post_id, views
+    """;
+
+    private final ViewCounter counter;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostViewRepository postViewRepository;
+    private final PostRepository postRepository;
+    private final int trendingSize;
+
+    private volatile List<TrendingPost> trending = List.of();
+
+    public PostViewServiceImpl(ViewCounter counter,
+                               JdbcTemplate jdbcTemplate,
+                               PostViewRepository postViewRepository,
+                               PostRepository postRepository,
+                               @Value("${blogger.views.trending-size:100}") int trendingSize) {
+        this.counter = counter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.postViewRepository = postViewRepository;
+        this.postRepository = postRepository;
+        this.trendingSize = trendingSize;
+    }
+
+    @Override
+    public void recordView(UUID postId) {
+        counter.increment(postId);
+    }
+
+    @Override
+    public List<TrendingPost> getTrending(int limit) {
+        List<TrendingPost> snapshot = trending;
+        return snapshot.subList(0, Math.min(Math.max(limit, 1), snapshot.size()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadTrending() {
+        Map<UUID, Long> views = postViewRepository.findAllByOrderByViewsDesc(Limit.of(trendingSize)).stream()
+                .collect(Collectors.toMap(PostView::getPostId, PostView::getViews));
+        publishTrending(views);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${blogger.views.flush-interval:10000}")
+    public synchronized void flush() {
+        Map<UUID, Long> deltas = counter.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Long> totals;
+        try {
+            totals = upsert(deltas);
+        } catch (DataAccessException e) {
+            logger.warn("[VIEWS] Flush of {} posts failed, retrying with the next one: {}", deltas.size(), e.getMessage());
+            counter.add(deltas);
+            return;
+        }
+
+        // Posts outside the ranking and not viewed since the last flush cannot have overtaken it
+        Map<UUID, Long> candidates = new HashMap<>();
+        trending.forEach(entry -> candidates.put(entry.getPost().getId(), entry.getViews()));
+        candidates.putAll(totals);
+        publishTrending(candidates);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<UUID, Long> upsert(Map<UUID, Long> deltas) {
+        // Same row order on every instance, so concurrent flushes cannot deadlock
+        UUID[] ids = deltas.keySet().stream().sorted().toArray(UUID[]::new);
+        Long[] views = Arrays.stream(ids).map(deltas::get).toArray(Long[]::new);
+        Map<UUID, Long> totals = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_VIEWS);
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            statement.setArray(2, connection.createArrayOf("bigint", views));
+            return statement;
+        }, (RowCallbackHandler) row -> totals.put(row.getObject("post_id", UUID.class), row.getLong("views")));
+        return totals;
+    }
+
+    /**
+     * Keeps the {@code trendingSize} most viewed posts, re-reading their summaries so that renamed
+     * or deleted posts do not linger in the ranking.
+     */
+    private void publishTrending(Map<UUID, Long> views) {
+        List<UUID> top = views.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Long>comparingByValue().reversed())
+                .limit(trendingSize)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (top.isEmpty()) {
+            trending = List.of();
+            return;
+        }
+
+        Map<UUID, PostSummary> summaries = postRepository.findSummariesByIdIn(PostSummary.EXCERPT_LENGTH, top).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        List<TrendingPost> ranking = new ArrayList<>(top.size());
+        for (UUID id : top) {
+            PostSummary summary = summaries.get(id);
+            if (summary != null) {
+                ranking.add(new TrendingPost(summary, views.get(id)));
+            }
+        }
+        trending = List.copyOf(ranking);
+    }
+}
@@ -0,0 +1,37 @@
+package com.dauphine.blogger.services.impl;
+
+import com.dauphine.blogger.exceptions.CategoryNotFoundException;
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.repositories.reactive.ReactiveCategoryRepository;
+import com.dauphine.blogger.services.ReactiveCategoryService;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+public class ReactiveCategoryServiceImpl implements ReactiveCategoryService {
+
+    private final ReactiveCategoryRepository categoryRepository;
+
+    public ReactiveCategoryServiceImpl(ReactiveCategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    @Override
+    public Flux<Category> getAll() {
+        return categoryRepository.findAll();
+    }
+
+    @Override
+    public Mono<Category> getById(UUID id) {
+        return categoryRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new CategoryNotFoundException(id)));
+    }
+
+    @Override
+    public Flux<Category> getAllLikeName(String name) {
+        return categoryRepository.findAllLikeName(name);
+    }
+}
@@ -0,0 +1,70 @@
+package com.dauphine.blogger.services.impl;
+
+import com.dauphine.blogger.dto.PostCursor;
+import com.dauphine.blogger.dto.SearchCursor;
+import com.dauphine.blogger.exceptions.PostNotFoundException;
+import com.dauphine.blogger.models.Post;
+import com.dauphine.blogger.repositories.reactive.ReactivePostRepository;
+import com.dauphine.blogger.services.ReactivePostService;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Streams are pulled by the client: rows are only read from the connection as fast as
+ * the response is written, so a larger window than the paged API is affordable.
+ */
+@Service
+public class ReactivePostServiceImpl implements ReactivePostService {
+
+    private static final int MAX_STREAM_SIZE = 1000;
+
+    private final ReactivePostRepository postRepository;
+
+    public ReactivePostServiceImpl(ReactivePostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @Override
+    public Flux<Post> getStream(String cursor, int limit) {
+        int size = clampStreamSize(limit);
+        if (cursor == null || cursor.isBlank()) {
+            return postRepository.findNewest(size);
+        }
+        PostCursor position = PostCursor.decode(cursor);
+        return postRepository.findNewestBefore(position.getCreatedDate(), position.getId(), size);
+    }
+
+    @Override
+    public Flux<Post> getStreamByCategoryId(UUID categoryId, String cursor, int limit) {
+        int size = clampStreamSize(limit);
+        if (cursor == null || cursor.isBlank()) {
+            return postRepository.findNewestByCategoryId(categoryId, size);
+        }
+        PostCursor position = PostCursor.decode(cursor);
+        return postRepository.findNewestByCategoryIdBefore(
+                categoryId, position.getCreatedDate(), position.getId(), size);
+    }
+
+    @Override
+    public Mono<Post> getById(UUID id) {
+        return postRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new PostNotFoundException(id)));
+    }
+
+    @Override
+    public Flux<Post> getAllByTitleOrContentContains(String value, String cursor, int limit) {
+        String query = PostServiceImpl.toPrefixQuery(value);
+        if (query.isEmpty()) {
+            return Flux.empty();
+        }
+        int offset = cursor == null || cursor.isBlank() ? 0 : SearchCursor.decode(cursor).getOffset();
+        return postRepository.searchByTitleOrContent(query, clampStreamSize(limit), offset);
+    }
+
+    private static int clampStreamSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_STREAM_SIZE);
+    }
+}
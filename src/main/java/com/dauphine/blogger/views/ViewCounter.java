@@ -0,0 +1,51 @@
+package com.dauphine.blogger.views;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Views counted since the last flush. Readers only touch their post's {@link LongAdder},
+ * so concurrent views of the same post do not contend on a lock or a single CAS.
+ */
+@Component
+public class ViewCounter {
+
+    private final ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(UUID postId) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(postId, key -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * Puts back deltas that could not be written, so the next flush retries them.
+     */
+    public void add(Map<UUID, Long> deltas) {
+        deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, key -> new LongAdder()).add(delta));
+    }
+
+    /**
+     * Takes the views counted since the previous call. Posts not viewed since then are dropped
+     * from the map to bound it; a view racing that removal may be lost, which counters tolerate.
+     */
+    public Map<UUID, Long> drain() {
+        Map<UUID, Long> deltas = new HashMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else {
+                pending.remove(postId, adder);
+            }
+        });
+        return deltas;
+    }
+}
@@ -0,0 +1,28 @@
+-- Tables mapped by Category and Post.
+-- Databases created before migrations existed are baselined at version 0 and replay this script,
+-- hence IF NOT EXISTS everywhere.
+CREATE TABLE IF NOT EXISTS category (
+    id           UUID         PRIMARY KEY,
+    name         VARCHAR(255) NOT NULL,
+    version      BIGINT       NOT NULL DEFAULT 0,
+    updated_date TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS post (
+    id           UUID         PRIMARY KEY,
+    title        VARCHAR(255) NOT NULL,
+    content      TEXT         NOT NULL,
+    created_date TIMESTAMP    NOT NULL DEFAULT now(),
+    category_id  UUID         REFERENCES category (id) ON DELETE SET NULL,
+    version      BIGINT       NOT NULL DEFAULT 0,
+    updated_date TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+-- Optimistic locking (@Version) and Last-Modified, added after the first tables
+ALTER TABLE category
+    ADD COLUMN IF NOT EXISTS version      BIGINT    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS updated_date TIMESTAMP NOT NULL DEFAULT now();
+
+ALTER TABLE post
+    ADD COLUMN IF NOT EXISTS version      BIGINT    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS updated_date TIMESTAMP NOT NULL DEFAULT now();
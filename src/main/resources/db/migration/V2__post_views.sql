@@ -0,0 +1,8 @@
+-- Per-post view counters, upserted in batches by PostViewServiceImpl.
+CREATE TABLE IF NOT EXISTS post_view (
+    post_id UUID   PRIMARY KEY REFERENCES post (id) ON DELETE CASCADE,
+    views   BIGINT NOT NULL DEFAULT 0
+);
+
+-- Rebuilds the in-memory ranking at startup without sorting the table.
+CREATE INDEX IF NOT EXISTS post_view_views_idx ON post_view (views DESC);
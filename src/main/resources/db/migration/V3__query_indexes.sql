@@ -0,0 +1,25 @@
+-- Indexes behind the repository queries, checked at startup by QueryPlanVerifier.
+
+-- Keyset listings: ORDER BY created_date DESC, id DESC with an optional (created_date, id) < (?, ?)
+CREATE INDEX IF NOT EXISTS idx_post_created_date_id
+    ON post (created_date DESC, id DESC);
+
+-- findAllByCategoryId and the per-category keyset listings
+CREATE INDEX IF NOT EXISTS idx_post_category_created_date_id
+    ON post (category_id, created_date DESC, id DESC);
+
+-- PostRepository.searchByTitleOrContent; the expression must stay identical to the one in the query
+CREATE INDEX IF NOT EXISTS idx_post_search
+    ON post
+    USING GIN ((setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+             || setweight(to_tsvector('simple', coalesce(content, '')), 'B')));
+
+-- existsByName, and one category per name whatever its case
+CREATE UNIQUE INDEX IF NOT EXISTS idx_category_name_lower
+    ON category (lower(name));
+
+-- CategoryRepository.findAllLikeName: UPPER(name) LIKE '%...%'
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_category_name_upper_trgm
+    ON category
+    USING GIN (upper(name) gin_trgm_ops);
@@ -0,0 +1,14 @@
+-- Per-category aggregates maintained by the services, see CategoryStatsRepository.
+CREATE TABLE IF NOT EXISTS category_stats (
+    category_id      UUID      PRIMARY KEY REFERENCES category (id) ON DELETE CASCADE,
+    post_count       BIGINT    NOT NULL DEFAULT 0,
+    latest_post_date TIMESTAMP
+);
+
+-- Backfill from the posts written so far, one row per category including the empty ones.
+INSERT INTO category_stats (category_id, post_count, latest_post_date)
+SELECT category.id, count(post.id), max(post.created_date)
+FROM category category
+LEFT JOIN post post ON post.category_id = category.id
+GROUP BY category.id
+ON CONFLICT (category_id) DO NOTHING;
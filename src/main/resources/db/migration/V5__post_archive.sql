@@ -0,0 +1,22 @@
+-- Posts per day, per category and in total under the nil UUID, see PostArchive.
+-- No foreign key: the totals row has no category, and the rows of a deleted category are never read.
+CREATE TABLE IF NOT EXISTS post_archive (
+    category_id UUID   NOT NULL,
+    created_on  DATE   NOT NULL,
+    post_count  BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (category_id, created_on)
+);
+
+-- Backfill, the same statements as ArchiveServiceImpl#rebuild.
+INSERT INTO post_archive (category_id, created_on, post_count)
+SELECT '00000000-0000-0000-0000-000000000000', CAST(post.created_date AS DATE), count(*)
+FROM post post
+GROUP BY CAST(post.created_date AS DATE)
+ON CONFLICT (category_id, created_on) DO NOTHING;
+
+INSERT INTO post_archive (category_id, created_on, post_count)
+SELECT post.category_id, CAST(post.created_date AS DATE), count(*)
+FROM post post
+WHERE post.category_id IS NOT NULL
+GROUP BY post.category_id, CAST(post.created_date AS DATE)
+ON CONFLICT (category_id, created_on) DO NOTHING;
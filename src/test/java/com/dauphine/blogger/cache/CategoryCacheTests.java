@@ -0,0 +1,100 @@
+package com.dauphine.blogger.cache;
+
+import com.dauphine.blogger.models.Category;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryCacheTests {
+
+	private final CategoryCache cache = new CategoryCache(100, Duration.ofMinutes(10));
+
+	@Test
+	void getByIdLoadsOnlyOnce() {
+		UUID id = UUID.randomUUID();
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getById(id, key -> {
+			loads.incrementAndGet();
+			return new Category(key, "java");
+		});
+		cache.getById(id, key -> {
+			loads.incrementAndGet();
+			return new Category(key, "java");
+		});
+
+		assertThat(loads).hasValue(1);
+		assertThat(cache.getStatistics().getHits()).isEqualTo(1);
+		assertThat(cache.getStatistics().getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	void renameInvalidatesPreviousNameAndSnapshot() {
+		Category category = new Category(UUID.randomUUID(), "java");
+		cache.put(category);
+		cache.getAll(() -> List.of(category));
+
+		category.setName("kotlin");
+		cache.rename("java", category);
+
+		assertThat(cache.existsByName("java", name -> false)).isFalse();
+		assertThat(cache.existsByName("kotlin", name -> false)).isTrue();
+		assertThat(cache.getAll(List::of)).isEmpty();
+	}
+
+	@Test
+	void removeEvictsEveryView() {
+		Category category = new Category(UUID.randomUUID(), "java");
+		cache.put(category);
+
+		cache.remove(category.getId());
+
+		assertThat(cache.getById(category.getId(), key -> null)).isNull();
+		assertThat(cache.existsByName("java", name -> false)).isFalse();
+	}
+
+	@Test
+	void writesWithinATransactionApplyOnlyOnCommit() {
+		Category category = new Category(UUID.randomUUID(), "java");
+		cache.getAll(List::of);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			cache.put(category);
+
+			// Not committed yet: neither the entry nor the invalidation of the snapshot is visible
+			assertThat(cache.getById(category.getId(), key -> null)).isNull();
+			assertThat(cache.getAll(() -> List.of(category))).isEmpty();
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(cache.getById(category.getId(), key -> null)).isSameAs(category);
+		assertThat(cache.getAll(() -> List.of(category))).containsExactly(category);
+	}
+
+	@Test
+	void rolledBackWritesLeaveNoEntries() {
+		Category category = new Category(UUID.randomUUID(), "java");
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			cache.put(category);
+		} finally {
+			// Rolled back: afterCommit never runs
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(cache.getById(category.getId(), key -> null)).isNull();
+		assertThat(cache.existsByName("java", name -> false)).isFalse();
+	}
+}
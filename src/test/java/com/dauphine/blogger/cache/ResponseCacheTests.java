@@ -0,0 +1,85 @@
+package com.dauphine.blogger.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final ResponseCache cache = new ResponseCache(objectMapper, DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+
+	@Test
+	void postIsSerializedOncePerETag() {
+		UUID id = UUID.randomUUID();
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getPost(id, "\"1-1\"", () -> Map.of("version", loads.incrementAndGet()));
+		cache.getPost(id, "\"1-1\"", () -> Map.of("version", loads.incrementAndGet()));
+		cache.getPost(id, "\"2-1\"", () -> Map.of("version", loads.incrementAndGet()));
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void largeBodyIsGzippedOnlyWhenAccepted() throws IOException {
+		Map<String, String> body = Map.of("content", "lorem ipsum ".repeat(1000));
+		SerializedResponse payload = cache.getFeedPage("full", 20, () -> body);
+
+		ResponseEntity<byte[]> gzipped = payload.toResponse(ResponseEntity.ok(), "br, gzip;q=0.8");
+		ResponseEntity<byte[]> refused = payload.toResponse(ResponseEntity.ok(), "gzip;q=0");
+		ResponseEntity<byte[]> identity = payload.toResponse(ResponseEntity.ok(), null);
+
+		assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(gzipped.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+			assertThat(in.readAllBytes()).isEqualTo(objectMapper.writeValueAsBytes(body));
+		}
+		assertThat(refused.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+		assertThat(identity.getBody()).isEqualTo(objectMapper.writeValueAsBytes(body));
+	}
+
+	@Test
+	void smallBodyIsNeverGzipped() {
+		SerializedResponse payload = cache.getCategories("\"abc\"", () -> Map.of("name", "java"));
+
+		assertThat(payload.toResponse(ResponseEntity.ok(), "gzip").getHeaders()
+				.containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+	}
+
+	@Test
+	void postWriteEvictsFeedPages() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getFeedPage("summary", 20, () -> Map.of("page", loads.incrementAndGet()));
+		cache.evictPost(UUID.randomUUID());
+		cache.getFeedPage("summary", 20, () -> Map.of("page", loads.incrementAndGet()));
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void categoryWriteEvictsPostsToo() {
+		UUID id = UUID.randomUUID();
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getPost(id, "\"1-1\"", () -> Map.of("category", loads.incrementAndGet()));
+		cache.evictCategories();
+		cache.getPost(id, "\"1-1\"", () -> Map.of("category", loads.incrementAndGet()));
+
+		assertThat(loads).hasValue(2);
+	}
+}
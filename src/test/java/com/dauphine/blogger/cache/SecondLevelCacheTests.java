@@ -0,0 +1,103 @@
+package com.dauphine.blogger.cache;
+
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.Post;
+import com.dauphine.blogger.services.CategoryService;
+import com.dauphine.blogger.services.PostExportService;
+import com.dauphine.blogger.services.PostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SecondLevelCacheTests {
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private PostExportService exportService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void enableStatistics() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+	}
+
+	@Test
+	void repeatedPostLoadsHitTheCache() {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+		Post post = postService.create("Title", "Content", category.getId());
+		statistics.clear();
+
+		Post loaded = postService.getById(post.getId());
+
+		assertThat(loaded.getCategory().getName()).isEqualTo(category.getName());
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getDomainDataRegionStatistics("post").getHitCount()).isEqualTo(1);
+		assertThat(statistics.getDomainDataRegionStatistics("category").getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void postsByCategoryAreServedFromTheQueryCacheUntilAPostIsWritten() {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+		postService.create("Title", "Content", category.getId());
+
+		postService.getAllByCategoryId(category.getId());
+		statistics.clear();
+		assertThat(postService.getAllByCategoryId(category.getId())).hasSize(1);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getQueryRegionStatistics("post-by-category").getHitCount()).isEqualTo(1);
+
+		postService.create("Other title", "Other content", category.getId());
+		statistics.clear();
+		assertThat(postService.getAllByCategoryId(category.getId())).hasSize(2);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void deletingACategoryDetachesItsCachedPosts() {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+		Post post = postService.create("Title", "Content", category.getId());
+		postService.getById(post.getId());
+		assertThat(postService.getAllByCategoryId(category.getId())).hasSize(1);
+		long version = postService.getVersion(post.getId()).getVersion();
+
+		categoryService.deleteById(category.getId(), null);
+
+		// The cached post must not point at the deleted row, and its tag must change
+		assertThat(postService.getById(post.getId()).getCategory()).isNull();
+		assertThat(postService.getVersion(post.getId()).getVersion()).isGreaterThan(version);
+	}
+
+	@Test
+	void exportBypassesTheCache() {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+		postService.create("Title", "Content", category.getId());
+		entityManagerFactory.getCache().evict(Post.class);
+		statistics.clear();
+		AtomicInteger exported = new AtomicInteger();
+
+		exportService.export(category.getId(), null, null, post -> exported.incrementAndGet());
+
+		assertThat(exported).hasValue(1);
+		assertThat(statistics.getDomainDataRegionStatistics("post").getPutCount()).isZero();
+	}
+}
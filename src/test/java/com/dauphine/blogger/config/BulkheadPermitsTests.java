@@ -0,0 +1,32 @@
+package com.dauphine.blogger.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Behind the routing proxy the bulkhead cannot read a pool size from the data source itself, it
+ * adds up the pools of the primary and of the replicas, none of them started yet at that point.
+ */
+@SpringBootTest(properties = {
+		"spring.threads.virtual.enabled=true",
+		"spring.datasource.url=" + BulkheadPermitsTests.DATABASE,
+		"blogger.datasource.replica-urls=" + BulkheadPermitsTests.DATABASE + "," + BulkheadPermitsTests.DATABASE,
+		"blogger.datasource.replica-health-interval=3600000",
+		"spring.datasource.hikari.maximum-pool-size=4"
+})
+class BulkheadPermitsTests {
+
+	static final String DATABASE = "jdbc:h2:mem:bulkhead;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void permitsCoverThePrimaryAndTheReplicas() {
+		assertThat(meterRegistry.get("blogger.datasource.bulkhead.available").gauge().value()).isEqualTo(12);
+	}
+}
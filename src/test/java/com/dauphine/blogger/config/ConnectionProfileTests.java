@@ -0,0 +1,34 @@
+package com.dauphine.blogger.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionProfileTests {
+
+	@Test
+	void transactionPoolerPortIsPooled() {
+		assertThat(ConnectionProfile.detect("jdbc:postgresql://aws-0-eu-west-3.pooler.supabase.com:6543/postgres"))
+				.isEqualTo(ConnectionProfile.POOLED);
+	}
+
+	@Test
+	void pgbouncerFlagIsPooled() {
+		assertThat(ConnectionProfile.detect("jdbc:postgresql://localhost:6432/blog?sslmode=require&pgbouncer=true"))
+				.isEqualTo(ConnectionProfile.POOLED);
+	}
+
+	@Test
+	void sessionPortIsDirect() {
+		assertThat(ConnectionProfile.detect("jdbc:postgresql://aws-0-eu-west-3.pooler.supabase.com:5432/postgres"))
+				.isEqualTo(ConnectionProfile.DIRECT);
+		assertThat(ConnectionProfile.detect("jdbc:postgresql://localhost/blog"))
+				.isEqualTo(ConnectionProfile.DIRECT);
+	}
+
+	@Test
+	void otherDatabasesAreDirect() {
+		assertThat(ConnectionProfile.detect("jdbc:h2:mem:blogger;MODE=PostgreSQL"))
+				.isEqualTo(ConnectionProfile.DIRECT);
+	}
+}
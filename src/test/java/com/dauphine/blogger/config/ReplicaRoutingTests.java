@@ -0,0 +1,105 @@
+package com.dauphine.blogger.config;
+
+import com.dauphine.blogger.services.CategoryService;
+import com.dauphine.blogger.services.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * An H2 "pair": both replicas open the in-memory primary database through pools of their own,
+ * which is enough to tell which pool served a transaction. The third replica does not exist.
+ * The database is not the one of the other tests, this context recreates its schema.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=" + ReplicaRoutingTests.DATABASE,
+		"blogger.datasource.replica-urls=" + ReplicaRoutingTests.DATABASE + "," + ReplicaRoutingTests.DATABASE
+				+ ",jdbc:h2:mem:missing;IFEXISTS=TRUE",
+		"blogger.datasource.replica-health-interval=3600000",
+		"spring.datasource.hikari.connection-timeout=250"
+})
+class ReplicaRoutingTests {
+
+	static final String DATABASE = "jdbc:h2:mem:replicated;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+
+	@Autowired
+	private ReplicaRouting replicaRouting;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private PostService postService;
+
+	@AfterEach
+	void unpin() {
+		ReplicaRouting.unpin();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToAReplica() {
+		long before = servedByReplicas();
+
+		categoryService.getSummaries();
+
+		assertThat(servedByReplicas()).isEqualTo(before + 1);
+	}
+
+	@Test
+	void feedPagesGoToAReplica() {
+		long before = servedByReplicas();
+
+		postService.getSummaryPage(null, 20);
+
+		assertThat(servedByReplicas()).isEqualTo(before + 1);
+	}
+
+	@Test
+	void writesStayOnThePrimary() {
+		long before = servedByReplicas();
+
+		categoryService.create("category-" + UUID.randomUUID());
+
+		assertThat(servedByReplicas()).isEqualTo(before);
+	}
+
+	@Test
+	void pinnedRequestsReadFromThePrimary() {
+		long before = servedByReplicas();
+
+		ReplicaRouting.pinToPrimary();
+		categoryService.getSummaries();
+
+		assertThat(servedByReplicas()).isEqualTo(before);
+	}
+
+	@Test
+	void unreachableReplicaIsSkipped() {
+		// Three reads start the rotation once at each replica
+		for (int i = 0; i < 3; i++) {
+			categoryService.getSummaries();
+		}
+
+		assertThat(replicaRouting.isHealthy(2)).isFalse();
+		assertThat(replicaRouting.isHealthy(0)).isTrue();
+		assertThat(replicaRouting.isHealthy(1)).isTrue();
+	}
+
+	@Test
+	void healthCheckMarksOnlyTheUnreachableReplicaDown() {
+		replicaRouting.checkHealth();
+
+		assertThat(replicaRouting.isHealthy(2)).isFalse();
+		assertThat(replicaRouting.isHealthy(0)).isTrue();
+		assertThat(replicaRouting.isHealthy(1)).isTrue();
+	}
+
+	private long servedByReplicas() {
+		return replicaRouting.getServedConnections(0) + replicaRouting.getServedConnections(1);
+	}
+}
@@ -0,0 +1,35 @@
+package com.dauphine.blogger.controllers;
+
+import com.dauphine.blogger.exceptions.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityTagsTests {
+
+	private final UUID id = UUID.randomUUID();
+
+	@Test
+	void missingOrWildcardIfMatchIsUnconditional() {
+		assertThat(EntityTags.expectedVersion(null, id)).isNull();
+		assertThat(EntityTags.expectedVersion("*", id)).isNull();
+	}
+
+	@Test
+	void expectedVersionIsReadFromTheOwnVersionPart() {
+		assertThat(EntityTags.expectedVersion("\"4\"", id)).isEqualTo(4L);
+		assertThat(EntityTags.expectedVersion("\"7-2\"", id)).isEqualTo(7L);
+		assertThat(EntityTags.expectedVersion("\"7-none\"", id)).isEqualTo(7L);
+	}
+
+	@Test
+	void weakOrMalformedTagsFailThePrecondition() {
+		assertThatThrownBy(() -> EntityTags.expectedVersion("W/\"4\"", id))
+				.isInstanceOf(PreconditionFailedException.class);
+		assertThatThrownBy(() -> EntityTags.expectedVersion("\"abc\"", id))
+				.isInstanceOf(PreconditionFailedException.class);
+	}
+}
@@ -0,0 +1,98 @@
+package com.dauphine.blogger.controllers;
+
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.services.CategoryService;
+import com.dauphine.blogger.services.PostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Listings must read posts and their categories with a single statement, whatever the number
+ * of distinct categories on the page. The second-level cache is emptied first so it cannot hide
+ * a missing fetch plan.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ListingStatementCountTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	private final List<Category> categories = new ArrayList<>();
+
+	@BeforeEach
+	void createPostsInDistinctCategories() {
+		for (int i = 0; i < 3; i++) {
+			Category category = categoryService.create("category-" + UUID.randomUUID());
+			categories.add(category);
+			postService.create("Title " + i, "Content " + i, category.getId());
+			postService.create("Other title " + i, "Other content " + i, category.getId());
+		}
+		entityManagerFactory.getCache().evictAll();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+	}
+
+	@Test
+	void newestPostsAreASingleStatement() throws Exception {
+		mockMvc.perform(get("/v1/posts").param("limit", "6"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(6))
+				.andExpect(jsonPath("$.items[0].category.name").value(categories.get(2).getName()));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void nextPageIsASingleStatement() throws Exception {
+		String next = postService.getPage(null, 2).getNext();
+		statistics.clear();
+
+		mockMvc.perform(get("/v1/posts").param("cursor", next).param("limit", "4"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items[0].category.name").value(categories.get(1).getName()));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void postsByCategoryAreASingleStatement() throws Exception {
+		Category category = categories.get(0);
+
+		mockMvc.perform(get("/v1/posts/category/{categoryId}", category.getId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andExpect(jsonPath("$.items[0].category.name").value(category.getName()));
+
+		// The category itself is validated against the category cache
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+}
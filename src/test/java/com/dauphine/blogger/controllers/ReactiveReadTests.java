@@ -0,0 +1,95 @@
+package com.dauphine.blogger.controllers;
+
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.Post;
+import com.dauphine.blogger.services.CategoryService;
+import com.dauphine.blogger.services.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Reads written through the JPA write path back through the R2DBC read API.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReactiveReadTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private PostService postService;
+
+	@Test
+	void readsPostWrittenThroughJpa() throws Exception {
+		Category category = categoryService.create(uniqueName());
+		Post post = postService.create("Reactive title", "Reactive content", category.getId());
+
+		MvcResult result = mockMvc.perform(get("/v1/reactive/posts/{id}", post.getId()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.title").value("Reactive title"))
+				.andExpect(jsonPath("$.category.name").value(category.getName()));
+	}
+
+	@Test
+	void unknownPostIsNotFound() throws Exception {
+		MvcResult result = mockMvc.perform(get("/v1/reactive/posts/{id}", UUID.randomUUID()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void unknownCategoryIsNotFoundBeforeStreaming() throws Exception {
+		MvcResult result = mockMvc.perform(get("/v1/reactive/posts/category/{id}", UUID.randomUUID()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void streamsOnePostPerLine() throws Exception {
+		Category category = categoryService.create(uniqueName());
+		postService.create("First", "Content", category.getId());
+		postService.create("Second", "Content", category.getId());
+
+		MvcResult result = mockMvc.perform(get("/v1/reactive/posts").param("limit", "2"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		// Completes once the whole stream has been written
+		result.getAsyncResult();
+
+		String[] lines = result.getResponse().getContentAsString().strip().split("\n");
+		assertThat(lines).hasSize(2);
+		assertThat(lines[0]).contains("\"title\":\"Second\"");
+		assertThat(lines[1]).contains("\"title\":\"First\"");
+	}
+
+	private static String uniqueName() {
+		return "category-" + UUID.randomUUID();
+	}
+}
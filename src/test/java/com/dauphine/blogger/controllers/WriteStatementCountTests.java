@@ -0,0 +1,145 @@
+package com.dauphine.blogger.controllers;
+
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.Post;
+import com.dauphine.blogger.services.CategoryService;
+import com.dauphine.blogger.services.PostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the JDBC statements each write endpoint prepares, so that redundant
+ * existence checks or merge SELECTs show up as a failing assertion.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WriteStatementCountTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void enableStatistics() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+	}
+
+	@Test
+	void createPostOnlyInserts() throws Exception {
+		Category category = categoryService.create(uniqueName());
+		statistics.clear();
+
+		mockMvc.perform(post("/v1/posts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"title": "Title", "content": "Content", "categoryId": "%s"}
+								""".formatted(category.getId())))
+				.andExpect(status().isCreated());
+
+		// The INSERT, then relative updates of the category counters and of the day's archive,
+		// in total and for the category
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+	}
+
+	@Test
+	void updatePostReadsFromSecondLevelCacheThenUpdates() throws Exception {
+		Post created = postService.create("Title", "Content", null);
+		statistics.clear();
+
+		mockMvc.perform(put("/v1/posts/{id}", created.getId())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"title": "New title", "content": "New content"}
+								"""))
+				.andExpect(status().isOk());
+
+		// The post was cached when created, only the UPDATE remains
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void deletePostIsASingleStatement() throws Exception {
+		Post created = postService.create("Title", "Content", null);
+		statistics.clear();
+
+		mockMvc.perform(delete("/v1/posts/{id}", created.getId()))
+				.andExpect(status().isNoContent());
+
+		// The post is read from the second-level cache; without a category, only the archive total changes
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void createCategoryOnlyInserts() throws Exception {
+		statistics.clear();
+
+		mockMvc.perform(post("/v1/categories")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"name": "%s"}
+								""".formatted(uniqueName())))
+				.andExpect(status().isCreated());
+
+		// Name uniqueness is left to the unique index; the second INSERT creates the counters row
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void updateCategoryOnlyUpdates() throws Exception {
+		Category category = categoryService.create(uniqueName());
+		statistics.clear();
+
+		mockMvc.perform(put("/v1/categories/{id}", category.getId())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"name": "%s"}
+								""".formatted(uniqueName())))
+				.andExpect(status().isOk());
+
+		// The category was cached when created and the unique index checks the name: no SELECT at all
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void deleteCategoryDetachesItsPostsThenDeletes() throws Exception {
+		Category category = categoryService.create(uniqueName());
+		statistics.clear();
+
+		mockMvc.perform(delete("/v1/categories/{id}", category.getId()))
+				.andExpect(status().isNoContent());
+
+		// The posts are detached first so that their versions move, then the category is deleted
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	private static String uniqueName() {
+		return "category-" + UUID.randomUUID();
+	}
+}
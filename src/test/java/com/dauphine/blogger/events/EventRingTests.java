@@ -0,0 +1,67 @@
+package com.dauphine.blogger.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventRingTests {
+
+	private final EventRing ring = new EventRing(4, 100);
+
+	@Test
+	void awaitAfterReturnsEventsInOrder() throws InterruptedException {
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		ring.append(new EntityChange(EntityChange.POST, EntityChange.CREATED, first));
+		ring.append(new EntityChange(EntityChange.POST, EntityChange.DELETED, second));
+
+		List<ChangeEvent> events = ring.awaitAfter(100, 10, Duration.ZERO);
+
+		assertThat(events).extracting(ChangeEvent::getSequence).containsExactly(101L, 102L);
+		assertThat(events).extracting(ChangeEvent::getId).containsExactly(first, second);
+		assertThat(events.get(1).getName()).isEqualTo("post.deleted");
+		assertThat(ring.awaitAfter(101, 10, Duration.ZERO)).hasSize(1);
+	}
+
+	@Test
+	void awaitAfterTimesOutWithoutEvents() throws InterruptedException {
+		assertThat(ring.awaitAfter(100, 10, Duration.ofMillis(10))).isEmpty();
+	}
+
+	@Test
+	void awaitAfterWakesUpOnAppend() throws InterruptedException {
+		Thread.ofVirtual().start(() -> {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			ring.append(new EntityChange(EntityChange.CATEGORY, EntityChange.UPDATED, UUID.randomUUID()));
+		});
+
+		assertThat(ring.awaitAfter(100, 10, Duration.ofSeconds(5))).hasSize(1);
+	}
+
+	@Test
+	void readerThatFellBehindIsReset() throws InterruptedException {
+		for (int i = 0; i < 6; i++) {
+			ring.append(new EntityChange(EntityChange.POST, EntityChange.CREATED, UUID.randomUUID()));
+		}
+
+		assertThat(ring.awaitAfter(100, 10, Duration.ZERO)).isNull();
+		assertThat(ring.awaitAfter(102, 10, Duration.ZERO))
+				.extracting(ChangeEvent::getSequence).containsExactly(103L, 104L, 105L, 106L);
+	}
+
+	@Test
+	void positionsOutsideTheRingAreReset() throws InterruptedException {
+		ring.append(new EntityChange(EntityChange.POST, EntityChange.CREATED, UUID.randomUUID()));
+
+		assertThat(ring.awaitAfter(50, 10, Duration.ZERO)).isNull();
+		assertThat(ring.awaitAfter(500, 10, Duration.ZERO)).isNull();
+	}
+}
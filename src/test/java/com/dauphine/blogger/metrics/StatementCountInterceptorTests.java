@@ -0,0 +1,58 @@
+package com.dauphine.blogger.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCountInterceptorTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final StatementCounter counter = new StatementCounter();
+	private final StatementCountInterceptor interceptor = new StatementCountInterceptor(counter, registry, 3);
+
+	@Test
+	void recordsStatementsPerEndpoint() {
+		MockHttpServletRequest request = request();
+
+		interceptor.preHandle(request, new MockHttpServletResponse(), null);
+		counter.inspect("select * from post");
+		counter.inspect("select * from category where id=?");
+		interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+		assertThat(registry.get("blogger.request.statements").tag("uri", "/v1/posts").summary().totalAmount())
+				.isEqualTo(2);
+		assertThat(registry.find("blogger.request.n_plus_one").counter()).isNull();
+	}
+
+	@Test
+	void flagsRepeatedStatements() {
+		MockHttpServletRequest request = request();
+
+		interceptor.preHandle(request, new MockHttpServletResponse(), null);
+		counter.inspect("select * from post");
+		for (int i = 0; i < 3; i++) {
+			counter.inspect("select * from category where id=?");
+		}
+		interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+		assertThat(registry.get("blogger.request.n_plus_one").tag("uri", "/v1/posts").counter().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void ignoresStatementsOutsideRequests() {
+		counter.inspect("select * from post");
+
+		assertThat(counter.stop()).isEmpty();
+	}
+
+	private static MockHttpServletRequest request() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/posts");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/posts");
+		return request;
+	}
+}
@@ -0,0 +1,52 @@
+package com.dauphine.blogger.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTests {
+
+	@Test
+	void idsAreVersion7WithRfcVariant() {
+		UUID id = UuidV7Generator.next();
+
+		assertThat(id.version()).isEqualTo(7);
+		assertThat(id.variant()).isEqualTo(2);
+	}
+
+	@Test
+	void idsIncreaseInDatabaseOrder() {
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			ids.add(UuidV7Generator.next().toString());
+		}
+
+		// PostgreSQL compares uuid bytes unsigned, which is the order of their hex form
+		assertThat(ids).isSorted();
+	}
+
+	@Test
+	void idsAreUniqueUnderConcurrency() {
+		Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+		IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(UuidV7Generator.next()));
+
+		assertThat(ids).hasSize(100_000);
+	}
+
+	@Test
+	void timestampIsTheCurrentTime() {
+		long before = System.currentTimeMillis();
+		UUID id = UuidV7Generator.next();
+
+		long timestamp = id.getMostSignificantBits() >>> 16;
+		assertThat(timestamp).isGreaterThanOrEqualTo(before);
+	}
+}
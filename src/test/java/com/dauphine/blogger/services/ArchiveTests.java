@@ -0,0 +1,96 @@
+package com.dauphine.blogger.services;
+
+import com.dauphine.blogger.dto.ArchiveBucket;
+import com.dauphine.blogger.exceptions.CategoryNotFoundException;
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.Post;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ArchiveTests {
+
+	@Autowired
+	private ArchiveService archiveService;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private PostService postService;
+
+	@Test
+	void categoryArchiveFollowsCreatesAndDeletes() {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+		Post post = postService.create("Title", "Content", category.getId());
+		postService.create("Other title", "Other content", category.getId());
+		LocalDate today = post.getCreatedDate().toLocalDate();
+
+		List<ArchiveBucket> days = archiveService.getDailyArchive(category.getId(), null, null);
+		assertThat(days).extracting(ArchiveBucket::getStart).containsExactly(today);
+		assertThat(days).extracting(ArchiveBucket::getPostCount).containsExactly(2L);
+
+		List<ArchiveBucket> months = archiveService.getMonthlyArchive(category.getId(), null, null);
+		assertThat(months).extracting(ArchiveBucket::getStart).containsExactly(today.withDayOfMonth(1));
+
+		postService.deleteById(post.getId(), null);
+
+		assertThat(archiveService.getDailyArchive(category.getId(), null, null))
+				.extracting(ArchiveBucket::getPostCount).containsExactly(1L);
+	}
+
+	@Test
+	void totalsCountPostsWithoutCategory() {
+		long before = postsToday();
+
+		postService.create("Title", "Content", null);
+
+		assertThat(postsToday()).isEqualTo(before + 1);
+	}
+
+	@Test
+	void rangeExcludesItsEnd() {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+		Post post = postService.create("Title", "Content", category.getId());
+		LocalDate today = post.getCreatedDate().toLocalDate();
+
+		assertThat(archiveService.getDailyArchive(category.getId(), today.minusDays(7), today)).isEmpty();
+		assertThat(archiveService.getDailyArchive(category.getId(), today, today.plusDays(1))).hasSize(1);
+	}
+
+	@Test
+	void rebuildMatchesTheMaintainedCounts() {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+		postService.create("Title", "Content", category.getId());
+		List<ArchiveBucket> maintained = archiveService.getDailyArchive(category.getId(), null, null);
+		long total = postsToday();
+
+		archiveService.rebuild();
+
+		assertThat(archiveService.getDailyArchive(category.getId(), null, null))
+				.usingRecursiveFieldByFieldElementComparator()
+				.containsExactlyElementsOf(maintained);
+		assertThat(postsToday()).isEqualTo(total);
+	}
+
+	@Test
+	void unknownCategoryIsRejected() {
+		assertThatThrownBy(() -> archiveService.getMonthlyArchive(UUID.randomUUID(), null, null))
+				.isInstanceOf(CategoryNotFoundException.class);
+	}
+
+	private long postsToday() {
+		LocalDate today = LocalDate.now();
+		return archiveService.getDailyArchive(null, today, today.plusDays(1)).stream()
+				.mapToLong(ArchiveBucket::getPostCount)
+				.sum();
+	}
+}
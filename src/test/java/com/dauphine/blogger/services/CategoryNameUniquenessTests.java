@@ -0,0 +1,80 @@
+package com.dauphine.blogger.services;
+
+import com.dauphine.blogger.exceptions.CategoryNameAlreadyExistsException;
+import com.dauphine.blogger.models.Category;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class CategoryNameUniquenessTests {
+
+	private static final int WRITERS = 8;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Test
+	void concurrentCreatesOfTheSameNameLetExactlyOneThrough() throws Exception {
+		String name = "Concurrent-" + UUID.randomUUID();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+		List<Future<Category>> results = new ArrayList<>();
+		for (int i = 0; i < WRITERS; i++) {
+			// Same name in different cases
+			String variant = i % 2 == 0 ? name.toLowerCase(Locale.ROOT) : name.toUpperCase(Locale.ROOT);
+			results.add(executor.submit(() -> {
+				start.await();
+				return categoryService.create(variant);
+			}));
+		}
+		start.countDown();
+
+		int created = 0;
+		int conflicts = 0;
+		for (Future<Category> result : results) {
+			try {
+				result.get();
+				created++;
+			} catch (ExecutionException e) {
+				assertThat(e.getCause()).isInstanceOf(CategoryNameAlreadyExistsException.class);
+				conflicts++;
+			}
+		}
+		executor.shutdown();
+
+		assertThat(created).isEqualTo(1);
+		assertThat(conflicts).isEqualTo(WRITERS - 1);
+	}
+
+	@Test
+	void renamingToAnExistingNameInAnotherCaseConflicts() {
+		String name = "Taken-" + UUID.randomUUID();
+		categoryService.create(name);
+		Category other = categoryService.create("Other-" + UUID.randomUUID());
+
+		assertThatThrownBy(() -> categoryService.update(other.getId(), name.toUpperCase(Locale.ROOT), null))
+				.isInstanceOf(CategoryNameAlreadyExistsException.class);
+	}
+
+	@Test
+	void existsByNameIgnoresCase() {
+		String name = "Exists-" + UUID.randomUUID();
+		categoryService.create(name);
+
+		assertThat(categoryService.existsByName(name.toUpperCase(Locale.ROOT))).isTrue();
+	}
+}
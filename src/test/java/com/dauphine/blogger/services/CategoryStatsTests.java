@@ -0,0 +1,84 @@
+package com.dauphine.blogger.services;
+
+import com.dauphine.blogger.dto.CategorySummary;
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.Post;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CategoryStatsTests {
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private PostService postService;
+
+	@Test
+	void newCategoryHasNoPosts() {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+
+		CategorySummary summary = summaryOf(category);
+		assertThat(summary.getPostCount()).isZero();
+		assertThat(summary.getLatestPostDate()).isNull();
+	}
+
+	@Test
+	void countsFollowCreatesAndDeletes() {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+		Post older = postService.create("Older", "Content", category.getId());
+		Post newer = postService.create("Newer", "Content", category.getId());
+
+		assertThat(summaryOf(category).getPostCount()).isEqualTo(2);
+		assertThat(summaryOf(category).getLatestPostDate()).isEqualTo(newer.getCreatedDate());
+
+		postService.deleteById(newer.getId(), null);
+
+		// Deleting the latest post moves the date back to the previous one
+		assertThat(summaryOf(category).getPostCount()).isEqualTo(1);
+		assertThat(summaryOf(category).getLatestPostDate()).isEqualTo(older.getCreatedDate());
+
+		postService.deleteById(older.getId(), null);
+
+		assertThat(summaryOf(category).getPostCount()).isZero();
+		assertThat(summaryOf(category).getLatestPostDate()).isNull();
+	}
+
+	@Test
+	void concurrentCreatesAreAllCounted() throws Exception {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+		int writers = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(writers);
+		try {
+			List<Callable<Post>> creates = IntStream.range(0, writers)
+					.<Callable<Post>>mapToObj(i -> () -> postService.create("Title " + i, "Content", category.getId()))
+					.toList();
+			for (Future<Post> created : executor.invokeAll(creates)) {
+				created.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(summaryOf(category).getPostCount()).isEqualTo(writers);
+	}
+
+	private CategorySummary summaryOf(Category category) {
+		return categoryService.getSummaries().stream()
+				.filter(summary -> summary.getId().equals(category.getId()))
+				.findFirst()
+				.orElseThrow();
+	}
+}
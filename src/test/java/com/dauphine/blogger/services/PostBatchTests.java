@@ -0,0 +1,90 @@
+package com.dauphine.blogger.services;
+
+import com.dauphine.blogger.dto.PostBatch;
+import com.dauphine.blogger.exceptions.TooManyIdsException;
+import com.dauphine.blogger.models.Category;
+import com.dauphine.blogger.models.Post;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class PostBatchTests {
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	private Post first;
+
+	private Post second;
+
+	private Post third;
+
+	@BeforeEach
+	void createPosts() {
+		Category category = categoryService.create("category-" + UUID.randomUUID());
+		first = postService.create("First", "First content", category.getId());
+		second = postService.create("Second", "Second content", category.getId());
+		third = postService.create("Third", "Third content", category.getId());
+		entityManagerFactory.getCache().evictAll();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+	}
+
+	@Test
+	void keepsRequestOrderAndReportsMissingIds() {
+		UUID unknown = UUID.randomUUID();
+
+		PostBatch batch = postService.getByIds(List.of(third.getId(), unknown, first.getId(), third.getId()));
+
+		assertThat(batch.getItems()).extracting(Post::getId).containsExactly(third.getId(), first.getId());
+		assertThat(batch.getItems().get(0).getCategory().getName()).startsWith("category-");
+		assertThat(batch.getMissing()).containsExactly(unknown);
+	}
+
+	@Test
+	void fetchesMissesWithASingleStatement() {
+		postService.getByIds(List.of(first.getId(), second.getId(), third.getId()));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void cachedPostsAreNotQueriedAgain() {
+		postService.getByIds(List.of(first.getId(), second.getId()));
+		statistics.clear();
+
+		PostBatch batch = postService.getByIds(List.of(second.getId(), first.getId(), third.getId()));
+
+		assertThat(batch.getItems()).extracting(Post::getId).containsExactly(second.getId(), first.getId(), third.getId());
+		// Only the third post is read from the database
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsTooManyIds() {
+		List<UUID> ids = IntStream.range(0, 101).mapToObj(i -> UUID.randomUUID()).toList();
+
+		assertThatThrownBy(() -> postService.getByIds(ids)).isInstanceOf(TooManyIdsException.class);
+	}
+}
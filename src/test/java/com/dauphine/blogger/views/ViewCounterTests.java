@@ -0,0 +1,53 @@
+package com.dauphine.blogger.views;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewCounterTests {
+
+	private final ViewCounter counter = new ViewCounter();
+
+	@Test
+	void concurrentViewsAreAllCounted() throws InterruptedException {
+		UUID postId = UUID.randomUUID();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 10_000; i++) {
+			executor.execute(() -> counter.increment(postId));
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(counter.drain()).containsExactly(Map.entry(postId, 10_000L));
+	}
+
+	@Test
+	void drainResetsTheDeltas() {
+		UUID postId = UUID.randomUUID();
+		counter.increment(postId);
+		counter.drain();
+
+		assertThat(counter.drain()).isEmpty();
+
+		counter.increment(postId);
+		assertThat(counter.drain()).containsExactly(Map.entry(postId, 1L));
+	}
+
+	@Test
+	void failedDeltasAreRetried() {
+		UUID postId = UUID.randomUUID();
+		counter.increment(postId);
+		Map<UUID, Long> deltas = counter.drain();
+
+		counter.increment(postId);
+		counter.add(deltas);
+
+		assertThat(counter.drain()).containsExactly(Map.entry(postId, 2L));
+	}
+}
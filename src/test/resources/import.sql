@@ -0,0 +1,4 @@
+-- Run by Hibernate after creating the test schema. H2 has no expression indexes, so the unique
+-- index on lower(name) from db/migration/V3__query_indexes.sql is emulated with a generated column.
+ALTER TABLE category ADD COLUMN name_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(name));
+CREATE UNIQUE INDEX idx_category_name_lower ON category (name_lower);